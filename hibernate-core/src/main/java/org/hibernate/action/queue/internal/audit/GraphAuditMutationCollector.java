@@ -8,6 +8,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import jakarta.annotation.Nullable;
 
@@ -38,6 +39,7 @@
 /// @author Steve Ebersole
 public class GraphAuditMutationCollector {
 	private final AuditChangeSet<EntityAuditSupport, CollectionAuditSupport> changeSet = new AuditChangeSet<>();
+	private final List<AuditChangeSet.EntityChange<EntityAuditSupport>> writtenEntityChanges = new ArrayList<>();
 	private Object changelog;
 	private @Nullable Session changesetSession;
 
@@ -60,23 +62,41 @@ public void collectionChanged(
 	}
 
 	public boolean hasWork() {
-		return !changeSet.isEmpty();
+		return !changeSet.isEmpty() || !writtenEntityChanges.isEmpty();
 	}
 
-	public void executeAuditMutations(SharedSessionContractImplementor session) {
-		if ( changeSet.isEmpty() ) {
-			return;
+	/// Write the audit rows of the collected entity changes matching the given
+	/// predicate immediately, instead of at transaction completion. This is used
+	/// before a bulk mutation of the table of these entities, whose audit rows
+	/// are then merged with the rows written here.
+	///
+	/// A later change to one of these entities in the same transaction cannot be
+	/// merged anymore.
+	///
+	/// @return `true` if any audit row was written
+	public boolean executeEntityAuditMutations(
+			Predicate<EntityKey> entityKeyPredicate,
+			SharedSessionContractImplementor session) {
+		final var entityChanges = changeSet.removeEntityChanges( entityKeyPredicate );
+		if ( entityChanges.isEmpty() ) {
+			return false;
 		}
+		final Object changesetId = resolveChangesetId( session );
+		final List<FlushOperation> operations = new ArrayList<>( entityChanges.size() * 2 );
+		createEntityTransactionEndOperations( entityChanges, changesetId, operations );
+		createEntityAuditInsertOperations( entityChanges, changesetId, session, operations );
+		execute( operations, session );
+		// the changeset callbacks still run at transaction completion
+		writtenEntityChanges.addAll( entityChanges );
+		return true;
+	}
 
-		final var changesetContext = resolveChangesetContext( session );
-		final Object changesetId = changesetContext == null
-				? session.getCurrentChangesetIdentifier()
-				: changesetContext.changesetId();
-		if ( changesetContext != null ) {
-			changelog = changesetContext.changelog();
-			changesetSession = changesetContext.changesetSession();
+	public void executeAuditMutations(SharedSessionContractImplementor session) {
+		if ( !hasWork() ) {
+			return;
 		}
 
+		final Object changesetId = resolveChangesetId( session );
 		final List<AuditChangeSet.EntityChange<EntityAuditSupport>> entityChanges = changeSet.entityChanges();
 		final List<AuditChangeSet.CollectionChange<CollectionAuditSupport>> collectionChanges = changeSet.collectionChanges();
 		final List<FlushOperation> operations = new ArrayList<>( entityChanges.size() * 2 + collectionChanges.size() * 4 );
@@ -85,11 +105,8 @@ public void executeAuditMutations(SharedSessionContractImplementor session) {
 		createCollectionAuditOperations( collectionChanges, changesetId, operations );
 
 		try {
-			if ( !operations.isEmpty() ) {
-				final var executor = PlanStepExecutorFactory.create( session );
-				executor.execute( operations, null, null );
-				executor.finishUp();
-			}
+			execute( operations, session );
+			entityChanges.addAll( writtenEntityChanges );
 			executeChangesetCallbacks( entityChanges, session );
 		}
 		finally {
@@ -97,8 +114,29 @@ public void executeAuditMutations(SharedSessionContractImplementor session) {
 		}
 	}
 
+	private Object resolveChangesetId(SharedSessionContractImplementor session) {
+		final var changesetContext = resolveChangesetContext( session );
+		if ( changesetContext == null ) {
+			return session.getCurrentChangesetIdentifier();
+		}
+		else {
+			changelog = changesetContext.changelog();
+			changesetSession = changesetContext.changesetSession();
+			return changesetContext.changesetId();
+		}
+	}
+
+	private static void execute(List<FlushOperation> operations, SharedSessionContractImplementor session) {
+		if ( !operations.isEmpty() ) {
+			final var executor = PlanStepExecutorFactory.create( session );
+			executor.execute( operations, null, null );
+			executor.finishUp();
+		}
+	}
+
 	public void clear() {
 		changeSet.clear();
+		writtenEntityChanges.clear();
 		changelog = null;
 		changesetSession = null;
 	}
@@ -8,6 +8,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.hibernate.audit.ModificationType;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -92,6 +93,31 @@ public List<EntityChange<E>> entityChanges() {
 		return changes;
 	}
 
+	/// Remove the merged entity audit changes of the entities matching the given
+	/// predicate, returning them in encounter order.
+	///
+	/// This is used to write the audit rows of some entities before the end of
+	/// the transaction, for example ahead of a bulk mutation of their table.
+	public List<EntityChange<E>> removeEntityChanges(Predicate<EntityKey> entityKeyPredicate) {
+		final List<EntityChange<E>> changes = new ArrayList<>();
+		final var iterator = entityChanges.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final var entry = iterator.next();
+			if ( entityKeyPredicate.test( entry.getKey() ) ) {
+				final MutableEntityChange<E> change = entry.getValue();
+				changes.add( new EntityChange<>(
+						entry.getKey(),
+						change.entity,
+						change.values,
+						change.modificationType,
+						change.entityAuditHandler
+				) );
+				iterator.remove();
+			}
+		}
+		return changes;
+	}
+
 	/// Return the recorded collection audit changes in encounter order.
 	public List<CollectionChange<C>> collectionChanges() {
 		return List.copyOf( collectionChanges.values() );
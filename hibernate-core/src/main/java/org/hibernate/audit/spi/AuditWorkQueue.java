@@ -4,8 +4,11 @@
  */
 package org.hibernate.audit.spi;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import jakarta.annotation.Nullable;
 
@@ -45,6 +48,7 @@
  */
 public class AuditWorkQueue implements TransactionCompletionCallbacks.BeforeCompletionCallback {
 	private final AuditChangeSet<AuditWriter, CollectionAuditWriter> changeSet = new AuditChangeSet<>();
+	private final List<AuditChangeSet.EntityChange<AuditWriter>> writtenEntityChanges = new ArrayList<>();
 	private EntityTrackingChangesetListener trackingListener;
 	private Object changelog;
 	private @Nullable Session changesetSession;
@@ -128,6 +132,35 @@ public void enqueueCollection(
 		}
 	}
 
+	/**
+	 * Write the audit rows of the queued entity changes matching the given
+	 * predicate immediately, instead of at transaction completion. This is
+	 * used before a bulk mutation of the table of these entities, whose audit
+	 * rows are then merged with the rows written here.
+	 * <p>
+	 * A later change to one of these entities in the same transaction cannot
+	 * be merged anymore.
+	 *
+	 * @return {@code true} if any audit row was written
+	 */
+	public boolean writeEntityChanges(
+			Predicate<EntityKey> entityKeyPredicate,
+			SharedSessionContractImplementor session) {
+		final var entityChanges = changeSet.removeEntityChanges( entityKeyPredicate );
+		for ( var entry : entityChanges ) {
+			entry.entityAuditHandler().writeAuditRow(
+					entry.entityKey(),
+					entry.entity(),
+					entry.values(),
+					entry.modificationType(),
+					session
+			);
+		}
+		// the changeset callbacks still run at transaction completion
+		writtenEntityChanges.addAll( entityChanges );
+		return !entityChanges.isEmpty();
+	}
+
 	/**
 	 * Store the changelog entity and the child session used to
 	 * persist it. The child session is kept open for deferred
@@ -144,16 +177,20 @@ public void setChangesetContext(Object changelog, Session changesetSession) {
 	public void doBeforeTransactionCompletion(SharedSessionContractImplementor session) {
 		try {
 			// Entity audit rows first
-			for ( var entry : changeSet.entityChanges() ) {
-				final var entityKey = entry.entityKey();
+			final var entityChanges = changeSet.entityChanges();
+			for ( var entry : entityChanges ) {
 				entry.entityAuditHandler().writeAuditRow(
-						entityKey,
+						entry.entityKey(),
 						entry.entity(),
 						entry.values(),
 						entry.modificationType(),
 						session
 				);
-				if ( trackingListener != null ) {
+			}
+			entityChanges.addAll( writtenEntityChanges );
+			if ( trackingListener != null ) {
+				for ( var entry : entityChanges ) {
+					final var entityKey = entry.entityKey();
 					trackingListener.entityChanged(
 							entityKey.getPersister().getMappedClass(),
 							entityKey.getIdentifier(),
@@ -172,10 +209,11 @@ public void doBeforeTransactionCompletion(SharedSessionContractImplementor sessi
 				);
 			}
 			// Populate @ModifiedEntities on the changelog entity
-			populateModifiedEntityNames( session );
+			populateModifiedEntityNames( entityChanges, session );
 		}
 		finally {
 			changeSet.clear();
+			writtenEntityChanges.clear();
 			trackingListener = null;
 			changelog = null;
 			changesetSession = null;
@@ -183,7 +221,9 @@ public void doBeforeTransactionCompletion(SharedSessionContractImplementor sessi
 		}
 	}
 
-	private void populateModifiedEntityNames(SharedSessionContractImplementor session) {
+	private void populateModifiedEntityNames(
+			List<AuditChangeSet.EntityChange<AuditWriter>> entityChanges,
+			SharedSessionContractImplementor session) {
 		final var supplier = ChangelogSupplier.resolve( session.getFactory().getServiceRegistry() );
 		if ( supplier != null && supplier.getModifiedEntitiesProperty() != null ) {
 			final var persister = session.getEntityPersister(
@@ -197,7 +237,7 @@ private void populateModifiedEntityNames(SharedSessionContractImplementor sessio
 				entityNames = new HashSet<>();
 				persister.setValue( changelog, attr.getStateArrayPosition(), entityNames );
 			}
-			for ( var change : changeSet.entityChanges() ) {
+			for ( var change : entityChanges ) {
 				entityNames.add( change.entityKey().getEntityName() );
 			}
 			castNonNull( changesetSession ).flush();
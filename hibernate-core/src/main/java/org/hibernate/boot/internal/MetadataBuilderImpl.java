@@ -59,6 +59,9 @@
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cfg.JpaComplianceSettings;
 import org.hibernate.cfg.MappingSettings;
+import org.hibernate.collection.internal.PrimitiveCollectionSemanticsResolver;
+import org.hibernate.collection.internal.StandardCollectionSemanticsResolver;
+import org.hibernate.collection.spi.CollectionSemanticsResolver;
 import org.hibernate.context.spi.MultiTenancy;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.TimeZoneSupport;
@@ -90,6 +93,7 @@
 import static org.hibernate.cfg.MappingSettings.IMPLICIT_DISCRIMINATOR_COLUMNS_FOR_JOINED_SUBCLASS;
 import static org.hibernate.cfg.MappingSettings.IMPLICIT_NAMING_STRATEGY;
 import static org.hibernate.cfg.MappingSettings.PHYSICAL_NAMING_STRATEGY;
+import static org.hibernate.cfg.MappingSettings.PRIMITIVE_ELEMENT_COLLECTIONS;
 import static org.hibernate.cfg.MappingSettings.TRANSFORM_HBM_XML;
 import static org.hibernate.cfg.MappingSettings.TRANSFORM_HBM_XML_FEATURE_HANDLING;
 import static org.hibernate.cfg.MappingSettings.USE_NATIONALIZED_CHARACTER_DATA;
@@ -644,6 +648,7 @@ public CollectionClassification getImplicitListClassification() {
 		private final boolean xmlMappingEnabled;
 		private final boolean allowExtensionsInCdi;
 		private final boolean xmlFormatMapperLegacyFormat;
+		private final CollectionSemanticsResolver collectionSemanticsResolver;
 
 		public MetadataBuildingOptionsImpl(StandardServiceRegistry serviceRegistry) {
 			this.serviceRegistry = serviceRegistry;
@@ -667,6 +672,10 @@ public MetadataBuildingOptionsImpl(StandardServiceRegistry serviceRegistry) {
 					BOOLEAN,
 					false
 			);
+			collectionSemanticsResolver =
+					configService.getSetting( PRIMITIVE_ELEMENT_COLLECTIONS, BOOLEAN, false )
+							? PrimitiveCollectionSemanticsResolver.INSTANCE
+							: StandardCollectionSemanticsResolver.INSTANCE;
 
 			implicitDiscriminatorsForJoinedInheritanceSupported = configService.getSetting(
 					IMPLICIT_DISCRIMINATOR_COLUMNS_FOR_JOINED_SUBCLASS,
@@ -956,6 +965,11 @@ public boolean isXmlFormatMapperLegacyFormatEnabled() {
 			return xmlFormatMapperLegacyFormat;
 		}
 
+		@Override
+		public CollectionSemanticsResolver getPersistentCollectionRepresentationResolver() {
+			return collectionSemanticsResolver;
+		}
+
 		/**
 		 * Yuck. This is needed because JPA lets users define "global building options"
 		 * in {@code orm.xml} mappings. Forget that there are generally multiple
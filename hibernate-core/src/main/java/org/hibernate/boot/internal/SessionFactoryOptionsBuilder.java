@@ -105,6 +105,7 @@
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.jpa.internal.util.CacheModeHelper.interpretCacheMode;
 import static org.hibernate.jpa.internal.util.ConfigurationHelper.getFlushMode;
@@ -179,8 +180,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean initializeLazyStateOutsideTransactions;
 	private final boolean bidirectionalAssociationManagementEnabled;
 	private int defaultBatchFetchSize;
+	private final int adaptiveBatchFetchMaxSize;
+	private final long adaptiveBatchFetchTargetTime;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private final boolean subselectFetchByKeyEnabled;
+	private final boolean lazyAttributeBatchFetchEnabled;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
@@ -233,6 +238,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
+	private long cacheMissCoalescingTimeout;
+	private boolean cacheWriteBehindEnabled;
+	private boolean cacheEmbedImmutableAssociationsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
@@ -241,6 +249,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private Integer jdbcFetchSize;
+	private final int adaptiveFetchSizeLimit;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private boolean connectionProviderDisablesAutoCommit;
@@ -248,6 +257,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean criteriaCopyTreeEnabled;
 	private final boolean criteriaPlanCacheEnabled;
 	private final boolean nativeJdbcParametersIgnored;
+	private final int parallelDirtyCheckThreshold;
+	private final int collectionOperationLogLimit;
 	// These two settings cannot be modified from the builder,
 	// in order to maintain consistency.
 	// Indeed, other components (the schema tools) also make use of these settings,
@@ -417,7 +428,11 @@ public BootstrapContext getBootstrapContext() {
 		tenantCredentialsMapper = MultiTenancy.getTenantCredentialsMapper( settings, serviceRegistry );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		adaptiveBatchFetchMaxSize = getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, settings, 0 );
+		adaptiveBatchFetchTargetTime = getLong( ADAPTIVE_BATCH_FETCH_TARGET_TIME, settings, 100 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
+		subselectFetchByKeyEnabled = getBoolean( SUBSELECT_FETCH_BY_KEY, settings );
+		lazyAttributeBatchFetchEnabled = getBoolean( BATCH_FETCH_LAZY_ATTRIBUTES, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
@@ -490,6 +505,11 @@ public BootstrapContext getBootstrapContext() {
 							BOOLEAN,
 							regionFactory.isMinimalPutsEnabledByDefault()
 					);
+			cacheMissCoalescingTimeout = getInt( CACHE_MISS_COALESCING_TIMEOUT, settings, 0 );
+			cacheWriteBehindEnabled =
+					configurationService.getSetting( CACHE_WRITE_BEHIND, BOOLEAN, false );
+			cacheEmbedImmutableAssociationsEnabled =
+					configurationService.getSetting( CACHE_EMBED_IMMUTABLE_ASSOCIATIONS, BOOLEAN, false );
 			structuredCacheEntriesEnabled =
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
 			directReferenceCacheEntriesEnabled =
@@ -504,6 +524,9 @@ public BootstrapContext getBootstrapContext() {
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
+			cacheMissCoalescingTimeout = 0;
+			cacheWriteBehindEnabled = false;
+			cacheEmbedImmutableAssociationsEnabled = false;
 			structuredCacheEntriesEnabled = false;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
@@ -520,6 +543,7 @@ public BootstrapContext getBootstrapContext() {
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		adaptiveFetchSizeLimit = getInt( ADAPTIVE_FETCH_SIZE_LIMIT, settings, 0 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -558,6 +582,9 @@ public BootstrapContext getBootstrapContext() {
 
 		safeModeEnabled = getBoolean( SAFE_MODE_ENABLED, settings );
 
+		parallelDirtyCheckThreshold = getInt( PARALLEL_DIRTY_CHECK_THRESHOLD, settings, 0 );
+		collectionOperationLogLimit = getInt( COLLECTION_OPERATION_LOG_LIMIT, settings, 0 );
+
 		queryStatisticsMaxSize =
 				getInt( QUERY_STATISTICS_MAX_SIZE, settings, DEFAULT_QUERY_STATISTICS_MAX_SIZE );
 
@@ -1255,6 +1282,16 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return adaptiveBatchFetchMaxSize;
+	}
+
+	@Override
+	public long getAdaptiveBatchFetchTargetTime() {
+		return adaptiveBatchFetchTargetTime;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1265,6 +1302,16 @@ public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public boolean isSubselectFetchByKeyEnabled() {
+		return subselectFetchByKeyEnabled;
+	}
+
+	@Override
+	public boolean isLazyAttributeBatchFetchEnabled() {
+		return lazyAttributeBatchFetchEnabled;
+	}
+
 	@Override
 	@Nonnull
 	public Nulls getDefaultNullPrecedence() {
@@ -1344,6 +1391,21 @@ public boolean isMinimalPutsEnabled() {
 		return minimalPutsEnabled;
 	}
 
+	@Override
+	public long getCacheMissCoalescingTimeout() {
+		return cacheMissCoalescingTimeout;
+	}
+
+	@Override
+	public boolean isCacheWriteBehindEnabled() {
+		return cacheWriteBehindEnabled;
+	}
+
+	@Override
+	public boolean isCacheEmbedImmutableAssociationsEnabled() {
+		return cacheEmbedImmutableAssociationsEnabled;
+	}
+
 	@Override
 	public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
@@ -1379,6 +1441,11 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getAdaptiveFetchSizeLimit() {
+		return adaptiveFetchSizeLimit;
+	}
+
 	@Override
 	@Nonnull
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
@@ -1454,6 +1521,16 @@ public boolean getNativeJdbcParametersIgnored() {
 		return nativeJdbcParametersIgnored;
 	}
 
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public int getCollectionOperationLogLimit() {
+		return collectionOperationLogLimit;
+	}
+
 	@Override
 	@Nonnull
 	public ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
@@ -33,6 +33,7 @@
 import org.hibernate.id.enhanced.StandardNamingStrategy;
 import org.hibernate.query.sqm.mutation.internal.cte.CteInsertStrategy;
 import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.inline.ArrayParameterMutationStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableInsertStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableMutationStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.LocalTemporaryTableInsertStrategy;
@@ -209,6 +210,11 @@ private static void addSqmMultiTableMutationStrategies(StrategySelectorImpl stra
 				CteMutationStrategy.SHORT_NAME,
 				CteMutationStrategy.class
 		);
+		strategySelector.registerStrategyImplementor(
+				SqmMultiTableMutationStrategy.class,
+				ArrayParameterMutationStrategy.SHORT_NAME,
+				ArrayParameterMutationStrategy.class
+		);
 		strategySelector.registerStrategyImplementor(
 				SqmMultiTableMutationStrategy.class,
 				GlobalTemporaryTableMutationStrategy.SHORT_NAME,
@@ -45,4 +45,8 @@ public interface ScannerLogger extends BasicLogger {
 	@LogMessage(level = Logger.Level.DEBUG)
 	@Message(id = 60003, value = "Unable to resolve class [%s] named in persistence unit [%s]")
 	void unableToResolveClass(String className, URL rootUrl);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = 60004, value = "Unable to read prebuilt index [%s], indexing the archive instead: %s")
+	void unableToReadPrebuiltIndex(String indexName, String message);
 }
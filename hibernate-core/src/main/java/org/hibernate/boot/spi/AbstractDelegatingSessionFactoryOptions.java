@@ -199,6 +199,16 @@ public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
+	@Override
+	public long getAdaptiveBatchFetchTargetTime() {
+		return delegate.getAdaptiveBatchFetchTargetTime();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -209,6 +219,16 @@ public boolean isSubselectFetchEnabled() {
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public boolean isSubselectFetchByKeyEnabled() {
+		return delegate.isSubselectFetchByKeyEnabled();
+	}
+
+	@Override
+	public boolean isLazyAttributeBatchFetchEnabled() {
+		return delegate.isLazyAttributeBatchFetchEnabled();
+	}
+
 	@Override
 	@Nonnull
 	public Nulls getDefaultNullPrecedence() {
@@ -299,6 +319,21 @@ public boolean isMinimalPutsEnabled() {
 		return delegate.isMinimalPutsEnabled();
 	}
 
+	@Override
+	public long getCacheMissCoalescingTimeout() {
+		return delegate.getCacheMissCoalescingTimeout();
+	}
+
+	@Override
+	public boolean isCacheWriteBehindEnabled() {
+		return delegate.isCacheWriteBehindEnabled();
+	}
+
+	@Override
+	public boolean isCacheEmbedImmutableAssociationsEnabled() {
+		return delegate.isCacheEmbedImmutableAssociationsEnabled();
+	}
+
 	@Override
 	public boolean isStructuredCacheEntriesEnabled() {
 		return delegate.isStructuredCacheEntriesEnabled();
@@ -334,6 +369,11 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getAdaptiveFetchSizeLimit() {
+		return delegate.getAdaptiveFetchSizeLimit();
+	}
+
 	@Override
 	@Nonnull
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
@@ -434,6 +474,16 @@ public boolean getNativeJdbcParametersIgnored() {
 		return delegate.getNativeJdbcParametersIgnored();
 	}
 
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public int getCollectionOperationLogLimit() {
+		return delegate.getCollectionOperationLogLimit();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return delegate.getJpaCompliance();
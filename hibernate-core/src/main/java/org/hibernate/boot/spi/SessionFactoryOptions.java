@@ -260,6 +260,30 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * The largest batch size used by adaptive batch fetching, or {@code 0}
+	 * if batch sizes are not adaptive.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 8.0
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The time, in milliseconds, a batch fetch is expected to take when
+	 * batch sizes are adaptive.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_TARGET_TIME
+	 *
+	 * @since 8.0
+	 */
+	default long getAdaptiveBatchFetchTargetTime() {
+		return 100;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.FetchSettings#MAX_FETCH_DEPTH
 	 */
@@ -275,6 +299,29 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * Should a subselect fetch pass the keys of the owners loaded by the
+	 * original query, instead of re-executing its restriction?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_BY_KEY
+	 *
+	 * @since 8.0
+	 */
+	default boolean isSubselectFetchByKeyEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should lazy groups be batch fetched for batch fetchable entities?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_LAZY_ATTRIBUTES
+	 *
+	 * @since 8.0
+	 */
+	default boolean isLazyAttributeBatchFetchEnabled() {
+		return false;
+	}
+
 	/**
 	 * The default {@linkplain Nulls precedence of null values} in sorted query results.
 	 *
@@ -398,6 +445,43 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isMinimalPutsEnabled();
 
+	/**
+	 * The maximum number of milliseconds to wait for a concurrent load of an
+	 * entity after a miss in the second-level cache, or {@code 0} if concurrent
+	 * loads are not coalesced.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_MISS_COALESCING_TIMEOUT
+	 *
+	 * @since 8.0
+	 */
+	default long getCacheMissCoalescingTimeout() {
+		return 0;
+	}
+
+	/**
+	 * Are the writes to the second-level cache which follow the completion of a
+	 * transaction, and the writes to the query cache, performed in the background.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_WRITE_BEHIND
+	 *
+	 * @since 8.0
+	 */
+	default boolean isCacheWriteBehindEnabled() {
+		return false;
+	}
+
+	/**
+	 * Is the state of immutable entities referenced by a cached entity embedded in
+	 * its second-level cache entry.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_EMBED_IMMUTABLE_ASSOCIATIONS
+	 *
+	 * @since 8.0
+	 */
+	default boolean isCacheEmbedImmutableAssociationsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Are second-level cache entries stored in a human-readable format.
 	 *
@@ -440,6 +524,19 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	@Nullable
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The maximum number of column values fetched in a single round trip
+	 * when the fetch size is determined adaptively, or {@code 0} if fetch
+	 * sizes are not adaptive.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_LIMIT
+	 *
+	 * @since 8.0
+	 */
+	default int getAdaptiveFetchSizeLimit() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 *
@@ -559,6 +656,30 @@ default boolean getNativeJdbcParametersIgnored() {
 		return false;
 	}
 
+	/**
+	 * The minimum number of managed entities for which the flush-time
+	 * dirty-check is computed in parallel, or {@code 0} if disabled.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 8.0
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of operations recorded by a modified bag
+	 * between flushes, or {@code 0} if disabled.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#COLLECTION_OPERATION_LOG_LIMIT
+	 *
+	 * @since 8.0
+	 */
+	default int getCollectionOperationLogLimit() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.QuerySettings#FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH
 	 */
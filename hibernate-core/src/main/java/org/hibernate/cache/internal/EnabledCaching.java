@@ -6,11 +6,17 @@
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import jakarta.persistence.PersistenceException;
 
 import org.hibernate.HibernateException;
@@ -28,6 +34,7 @@
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -51,6 +58,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 
 	private static final SecondLevelCacheLogger LOG = SecondLevelCacheLogger.L2CACHE_LOGGER;
 
+	private static final long WRITE_BEHIND_SHUTDOWN_TIMEOUT = 10;
+	private static final int WRITE_BEHIND_QUEUE_CAPACITY = 10_000;
+
 	private final SessionFactoryImplementor sessionFactory;
 	private final RegionFactory regionFactory;
 
@@ -69,6 +79,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
+	private final @Nullable ThreadPoolExecutor writeBehindExecutor;
+	// the sessions passed to the writes performed by the write-behind
+	// thread, by tenant identifier, only ever accessed by that thread
+	private final Map<Object, SharedSessionContractImplementor> writeBehindSessions = new HashMap<>();
 
 	public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
@@ -83,6 +97,69 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+		writeBehindExecutor = options.isCacheWriteBehindEnabled() ? buildWriteBehindExecutor() : null;
+	}
+
+	private static ThreadPoolExecutor buildWriteBehindExecutor() {
+		// a single thread, so that the writes to each item are performed
+		// in their order, and a bounded queue, so that the pending writes
+		// do not pile up when the cache is slower than the transactions
+		return new ThreadPoolExecutor(
+				1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>( WRITE_BEHIND_QUEUE_CAPACITY ),
+				runnable -> {
+					final var thread = new Thread( runnable );
+					thread.setDaemon( true );
+					thread.setName( "Hibernate Second-level Cache Write-behind Thread" );
+					return thread;
+				}
+		);
+	}
+
+	@Override
+	public boolean isWriteBehindEnabled() {
+		return writeBehindExecutor != null;
+	}
+
+	@Override
+	public void writeBehind(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Consumer<SharedSessionContractImplementor> write) {
+		if ( writeBehindExecutor == null ) {
+			write.accept( session );
+		}
+		else {
+			// the queued write must not retain the session,
+			// along with its persistence context, only its tenant
+			final Object tenantId = session.getTenantIdentifierValue();
+			try {
+				writeBehindExecutor.execute( () -> performWriteBehind( tenantId, write ) );
+			}
+			catch (RejectedExecutionException e) {
+				// the queue is full, or the cache is being closed,
+				// so the write is performed by the calling thread
+				write.accept( session );
+			}
+		}
+	}
+
+	private void performWriteBehind(
+			@Nullable Object tenantId,
+			Consumer<SharedSessionContractImplementor> write) {
+		try {
+			write.accept( writeBehindSessions.computeIfAbsent( tenantId, this::openWriteBehindSession ) );
+		}
+		catch (RuntimeException e) {
+			LOG.warn( "Write-behind to the second-level cache failed", e );
+		}
+	}
+
+	private SharedSessionContractImplementor openWriteBehindSession(@Nullable Object tenantId) {
+		final var builder = sessionFactory.withStatelessOptions();
+		if ( tenantId != null ) {
+			builder.tenantIdentifier( tenantId );
+		}
+		return (SharedSessionContractImplementor) builder.openStatelessSession();
 	}
 
 	private QueryResultsCache buildQueryResultsCache(SessionFactoryImplementor sessionFactory) {
@@ -523,6 +600,31 @@ else if ( type.isAssignableFrom( RegionFactory.class ) ) {
 
 	@Override
 	public void close() {
+		if ( writeBehindExecutor != null ) {
+			// perform the pending writes before the regions are destroyed
+			writeBehindExecutor.shutdown();
+			boolean terminated;
+			try {
+				terminated = writeBehindExecutor.awaitTermination( WRITE_BEHIND_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				terminated = false;
+				Thread.currentThread().interrupt();
+			}
+			if ( terminated ) {
+				// the write-behind thread is done with its sessions
+				for ( var session : writeBehindSessions.values() ) {
+					session.close();
+				}
+				writeBehindSessions.clear();
+			}
+			else {
+				final int dropped = writeBehindExecutor.shutdownNow().size();
+				if ( dropped > 0 ) {
+					LOG.droppedPendingCacheWrites( dropped );
+				}
+			}
+		}
 		for ( var region : regionsByName.values() ) {
 			region.destroy();
 		}
@@ -79,7 +79,8 @@ public boolean put(
 		final var cacheItem = new CacheItem( synchronization.getCachingTimestamp(), deepCopy( results ) );
 		try {
 			listenerManager.cachePutStart();
-			cacheRegion.putIntoCache( key, cacheItem, session );
+			session.getFactory().getCache()
+					.writeBehind( session, writerSession -> cacheRegion.putIntoCache( key, cacheItem, writerSession ) );
 		}
 		finally {
 			eventMonitor.completeCachePutEvent(
@@ -6,6 +6,7 @@
 
 import java.io.Serializable;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -18,6 +19,7 @@
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
@@ -134,6 +136,37 @@ default void evictQueries() throws HibernateException {
 	 */
 	void close();
 
+	/**
+	 * Are the writes which follow the completion of a transaction, and the
+	 * writes of query results, performed by a dedicated thread?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_WRITE_BEHIND
+	 *
+	 * @since 8.0
+	 */
+	default boolean isWriteBehindEnabled() {
+		return false;
+	}
+
+	/**
+	 * Perform a write which follows the completion of a transaction, or a write
+	 * of query results. If {@linkplain #isWriteBehindEnabled write-behind} is
+	 * enabled, the write is queued, and later performed by a dedicated thread,
+	 * in the order in which the writes are submitted, and it is passed a session
+	 * of that thread with the tenant of the given session. Otherwise, or if the
+	 * queue is full, the write is performed immediately, and it is passed the
+	 * given session.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_WRITE_BEHIND
+	 *
+	 * @since 8.0
+	 */
+	default void writeBehind(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Consumer<SharedSessionContractImplementor> write) {
+		write.accept( session );
+	}
+
 	/**
 	 * Find the cache data access strategy for an entity, or return {@code null}
 	 * if the given entity is not configured for caching.
@@ -389,4 +389,11 @@ void checkingReadWriteLockWriteability(
 			long unlockTimestamp,
 			long txTimestamp,
 			Object newVersion);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Dropped %s pending writes to the second-level cache which were not performed before it was closed",
+			id = NAMESPACE + 50
+	)
+	void droppedPendingCacheWrites(int count);
 }
@@ -61,6 +61,40 @@ public interface CachedDomainDataAccess {
 	@Nullable
 	Object get(@Nonnull SharedSessionContractImplementor session, @Nonnull Object key);
 
+	/**
+	 * Called after a {@linkplain #get miss}, before the item is loaded from the
+	 * database, so that concurrent loads of the same item are coalesced. If the
+	 * item is already being loaded by another thread, wait for that load to
+	 * {@linkplain #loadCompleted complete}. Otherwise, register the calling
+	 * thread as loading the item.
+	 *
+	 * @param key The key of the item to be loaded.
+	 * @param timeout The maximum number of milliseconds to wait.
+	 *
+	 * @return {@code true} if the item was loaded by another thread, and should
+	 *         be read from the cache, or {@code false} if the caller should load
+	 *         the item, and then call {@link #loadCompleted(Object)}
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_MISS_COALESCING_TIMEOUT
+	 *
+	 * @since 8.0
+	 */
+	default boolean awaitConcurrentLoad(@Nonnull Object key, long timeout) {
+		return false;
+	}
+
+	/**
+	 * Called after the item was loaded from the database, or the load failed,
+	 * following a call to {@link #awaitConcurrentLoad(Object, long)} which
+	 * returned {@code false}, releasing the threads waiting for the load.
+	 *
+	 * @param key The key of the loaded item.
+	 *
+	 * @since 8.0
+	 */
+	default void loadCompleted(@Nonnull Object key) {
+	}
+
 	/**
 	 * Attempt to cache an object, after loading it from the database.
 	 *
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.metamodel.mapping.ToOneAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.ManyToOneType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.Hibernate.isInitialized;
+import static org.hibernate.cache.spi.access.AccessType.READ_ONLY;
+import static org.hibernate.engine.FetchTiming.IMMEDIATE;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Representation of entity cached data using the "disassembled state", which also
+ * embeds the disassembled state of the immutable entities referenced, directly or
+ * transitively, by the eagerly-fetched many-to-one associations of the entity.
+ * <p>
+ * The embedded entities are ordered so that an entity comes after the entities
+ * it references, and may therefore be assembled in order.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_EMBED_IMMUTABLE_ASSOCIATIONS
+ *
+ * @since 8.0
+ */
+public class GraphCacheEntryImpl extends StandardCacheEntryImpl {
+
+	private final EmbeddedEntity[] embeddedEntities;
+
+	/**
+	 * Constructs a GraphCacheEntryImpl
+	 *
+	 * @param state The extracted state
+	 * @param persister The entity persister
+	 * @param version The current version (if versioned)
+	 * @param session The originating session
+	 * @param owner The owner
+	 */
+	public GraphCacheEntryImpl(
+			@Nonnull final Object[] state,
+			@Nonnull final EntityPersister persister,
+			@Nullable final Object version,
+			@Nonnull final SharedSessionContractImplementor session,
+			@Nullable final Object owner) {
+		super( state, persister, version, session, owner );
+		final List<EmbeddedEntity> embedded = new ArrayList<>();
+		final Set<Object> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+		if ( owner != null ) {
+			visited.add( owner );
+		}
+		embed( state, persister, session, visited, embedded );
+		this.embeddedEntities = embedded.toArray( new EmbeddedEntity[0] );
+	}
+
+	/**
+	 * The embedded entities, each coming after the entities it references.
+	 */
+	@Nonnull
+	public EmbeddedEntity[] getEmbeddedEntities() {
+		return embeddedEntities;
+	}
+
+	private static void embed(
+			Object[] state,
+			EntityPersister persister,
+			SharedSessionContractImplementor session,
+			Set<Object> visited,
+			List<EmbeddedEntity> embedded) {
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( types[i] instanceof ManyToOneType
+					&& persister.getAttributeMapping( i ) instanceof ToOneAttributeMapping toOne
+					&& toOne.getMappedFetchOptions().getTiming() == IMMEDIATE ) {
+				final Object target = unproxy( state[i] );
+				if ( target != null && visited.add( target ) ) {
+					final var entityEntry = session.getPersistenceContextInternal().getEntry( target );
+					if ( entityEntry != null && isLoaded( entityEntry )
+							&& isImmutable( entityEntry.getPersister() ) ) {
+						final var targetPersister = entityEntry.getPersister();
+						final Object[] targetState = targetPersister.getValues( target );
+						// the referenced entities come first
+						embed( targetState, targetPersister, session, visited, embedded );
+						embedded.add( new EmbeddedEntity(
+								targetPersister.getIdentifierType().disassemble( entityEntry.getId(), session, null ),
+								new StandardCacheEntryImpl(
+										targetState,
+										targetPersister,
+										entityEntry.getVersion(),
+										session,
+										target
+								)
+						) );
+					}
+				}
+			}
+		}
+	}
+
+	private static Object unproxy(Object value) {
+		if ( value == null || !isInitialized( value ) ) {
+			return null;
+		}
+		else {
+			final var lazyInitializer = extractLazyInitializer( value );
+			return lazyInitializer == null ? value : lazyInitializer.getImplementation();
+		}
+	}
+
+	/**
+	 * Has the state of the entity been set? An entity being assembled from the cache
+	 * is {@link Status#LOADING} before its state is set, while an entity being read
+	 * from a result set is {@code LOADING} after its state is set.
+	 */
+	private static boolean isLoaded(EntityEntry entityEntry) {
+		final Status status = entityEntry.getStatus();
+		return status == Status.LOADING
+				? entityEntry.getLoadedState() != null
+				: !status.isDeletedOrGone();
+	}
+
+	/**
+	 * Is the cached state of an entity unable to become stale?
+	 */
+	private static boolean isImmutable(EntityPersister persister) {
+		return !persister.isMutable()
+			|| persister.canWriteToCache()
+				&& persister.getCacheAccessStrategy().getAccessType() == READ_ONLY;
+	}
+
+	@Override
+	public String toString() {
+		return "GraphCacheEntry(" + getSubclass() + ", " + embeddedEntities.length + " embedded)";
+	}
+
+	/**
+	 * The disassembled state of an entity embedded in the cache entry of another.
+	 *
+	 * @param id The disassembled identifier of the embedded entity
+	 * @param entry The disassembled state of the embedded entity
+	 */
+	public record EmbeddedEntity(Serializable id, StandardCacheEntryImpl entry) implements Serializable {
+	}
+}
@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -23,6 +27,21 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 
 	private final DomainDataRegion region;
 	private final DomainDataStorageAccess storageAccess;
+	private final ConcurrentHashMap<Object, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+	/**
+	 * A load of an item by a thread, awaited by other threads.
+	 */
+	private static final class PendingLoad {
+		private final Thread loader = Thread.currentThread();
+		private final CountDownLatch completion = new CountDownLatch( 1 );
+		// the number of nested loads of the item by the loader,
+		// only ever accessed by the loader
+		private int depth = 1;
+		// did the load put the item in the cache? written
+		// by the loader before the completion is released
+		private boolean cached;
+	}
 
 	protected AbstractCachedDomainDataAccess(
 			@Nonnull DomainDataRegion region,
@@ -72,6 +91,64 @@ public Object get(@Nonnull SharedSessionContractImplementor session, @Nonnull Ob
 		return item;
 	}
 
+	@Override
+	public boolean awaitConcurrentLoad(@Nonnull Object key, long timeout) {
+		final var pendingLoad = new PendingLoad();
+		final var concurrentLoad = pendingLoads.putIfAbsent( key, pendingLoad );
+		if ( concurrentLoad == null ) {
+			// no other thread is loading the item
+			return false;
+		}
+		else if ( concurrentLoad.loader == pendingLoad.loader ) {
+			// a nested load by the thread which is loading the item
+			// already must not wait for itself, and must not release
+			// the waiting threads before the outer load completes
+			concurrentLoad.depth++;
+			return false;
+		}
+		else {
+			try {
+				// if the wait times out, or the item was not cached,
+				// the caller loads the item itself, without registering
+				// as loading it
+				return concurrentLoad.completion.await( timeout, TimeUnit.MILLISECONDS )
+					&& concurrentLoad.cached;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+
+	@Override
+	public void loadCompleted(@Nonnull Object key) {
+		pendingLoads.computeIfPresent( key, (k, pendingLoad) -> {
+			if ( pendingLoad.loader != Thread.currentThread() || --pendingLoad.depth > 0 ) {
+				// the load was registered by another thread,
+				// or it is a nested load of the item
+				return pendingLoad;
+			}
+			else {
+				pendingLoad.completion.countDown();
+				return null;
+			}
+		} );
+	}
+
+	/**
+	 * Called with the outcome of a {@linkplain #putFromLoad put from load},
+	 * releasing the threads waiting for a load of the item by the calling
+	 * thread as soon as they know whether to read the item from the cache.
+	 */
+	protected void putFromLoadCompleted(@Nonnull Object key, boolean cached) {
+		final var pendingLoad = pendingLoads.get( key );
+		if ( pendingLoad != null && pendingLoad.loader == Thread.currentThread() ) {
+			pendingLoad.cached = cached;
+			pendingLoad.completion.countDown();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			@Nonnull SharedSessionContractImplementor session,
@@ -82,6 +159,7 @@ public boolean putFromLoad(
 			L2CACHE_LOGGER.cachingDataFromLoad( region.getName(), getAccessType(), key, value );
 		}
 		getStorageAccess().putFromLoad( key, value, session );
+		putFromLoadCompleted( key, true );
 		return true;
 	}
 
@@ -96,6 +174,8 @@ public boolean putFromLoad(
 			if ( L2CACHE_LOGGER.isTraceEnabled() ) {
 				L2CACHE_LOGGER.cachePutFromLoadSkippedDueToMinimalPut( region.getName(), getAccessType(), key );
 			}
+			// the item is cached already
+			putFromLoadCompleted( key, true );
 			return false;
 		}
 		else {
@@ -15,6 +15,7 @@
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -147,6 +148,7 @@ private boolean doPutFromLoad(
 								key
 						);
 					}
+					putFromLoadCompleted( key, isReadable( session, item ) );
 					return false;
 				}
 				else {
@@ -157,6 +159,7 @@ private boolean doPutFromLoad(
 											.getCachingTimestamp() ),
 							session
 					);
+					putFromLoadCompleted( key, true );
 					return true;
 				}
 			}
@@ -169,6 +172,7 @@ private boolean doPutFromLoad(
 							value
 					);
 				}
+				putFromLoadCompleted( key, false );
 				return false;
 			}
 		}
@@ -226,6 +230,18 @@ public void unlockItem(
 			@Nonnull SharedSessionContractImplementor session,
 			@Nonnull Object key,
 			@Nullable SoftLock lock) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehind( session, key, lock, writerSession -> doUnlockItem( writerSession, key, lock ) );
+		}
+		else {
+			doUnlockItem( session, key, lock );
+		}
+	}
+
+	private void doUnlockItem(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Object key,
+			@Nullable SoftLock lock) {
 		try {
 			if ( L2CACHE_LOGGER.isTraceEnabled() ) {
 				L2CACHE_LOGGER.unlockingCacheItem( getRegion().getName(), getAccessType(), key );
@@ -244,6 +260,52 @@ public void unlockItem(
 		}
 	}
 
+	/**
+	 * Are the writes which follow the completion of a transaction performed
+	 * by the write-behind thread?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_WRITE_BEHIND
+	 */
+	protected static boolean isWriteBehindEnabled(@Nonnull SharedSessionContractImplementor session) {
+		return session.getFactory().getCache().isWriteBehindEnabled();
+	}
+
+	/**
+	 * Queue a write which follows the completion of a transaction. A queued write
+	 * is assumed to succeed, and it leaves the soft lock in place until it is
+	 * performed, so that concurrent reads go to the database. A write performed
+	 * after the soft lock has timed out, or, without a soft lock, after the timeout
+	 * of the region has elapsed, might overwrite the state cached by a later
+	 * transaction, and so it invalidates the item instead.
+	 *
+	 * @param write The write, passed the session it must use
+	 *
+	 * @see org.hibernate.cache.spi.CacheImplementor#writeBehind
+	 */
+	protected void writeBehind(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Object key,
+			@Nullable SoftLock lock,
+			@Nonnull Consumer<SharedSessionContractImplementor> write) {
+		final long deadline = lock instanceof SoftLockImpl softLock
+				? softLock.timeout
+				: nextTimestamp() + getTimeout();
+		session.getFactory().getCache().writeBehind( session, writerSession -> {
+			if ( nextTimestamp() > deadline ) {
+				try {
+					writeLock.lock();
+					handleLockExpiry( writerSession, key );
+				}
+				finally {
+					writeLock.unlock();
+				}
+			}
+			else {
+				write.accept( writerSession );
+			}
+		} );
+	}
+
 	long getTimeout() {
 		return getRegion().getRegionFactory().getTimeout();
 	}
@@ -101,6 +101,20 @@ public boolean afterInsert(
 			@Nonnull Object key,
 			@Nonnull Object value,
 			@Nullable Object version) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehind( session, key, null, writerSession -> doAfterInsert( writerSession, key, value, version ) );
+			return true;
+		}
+		else {
+			return doAfterInsert( session, key, value, version );
+		}
+	}
+
+	private boolean doAfterInsert(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nullable Object version) {
 		try {
 			writeLock().lock();
 			final var item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -135,6 +149,23 @@ public boolean afterUpdate(
 			@Nullable Object currentVersion,
 			@Nullable Object previousVersion,
 			@Nullable SoftLock lock) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehind( session, key, lock,
+					writerSession -> doAfterUpdate( writerSession, key, value, currentVersion, previousVersion, lock ) );
+			return true;
+		}
+		else {
+			return doAfterUpdate( session, key, value, currentVersion, previousVersion, lock );
+		}
+	}
+
+	private boolean doAfterUpdate(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nullable Object currentVersion,
+			@Nullable Object previousVersion,
+			@Nullable SoftLock lock) {
 		try {
 			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -91,6 +91,19 @@ public boolean afterInsert(
 			@Nonnull SharedSessionContractImplementor session,
 			@Nonnull Object key,
 			@Nonnull Object value) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehind( session, key, null, writerSession -> doAfterInsert( writerSession, key, value ) );
+			return true;
+		}
+		else {
+			return doAfterInsert( session, key, value );
+		}
+	}
+
+	private boolean doAfterInsert(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Object key,
+			@Nonnull Object value) {
 		try {
 			writeLock().lock();
 			final var item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -121,6 +134,20 @@ public boolean afterUpdate(
 			@Nonnull Object key,
 			@Nonnull Object value,
 			@Nullable SoftLock lock) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehind( session, key, lock, writerSession -> doAfterUpdate( writerSession, key, value, lock ) );
+			return true;
+		}
+		else {
+			return doAfterUpdate( session, key, value, lock );
+		}
+	}
+
+	private boolean doAfterUpdate(
+			@Nonnull SharedSessionContractImplementor session,
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nullable SoftLock lock) {
 		try {
 			writeLock().lock();
 			final var item = (Lockable) getStorageAccess().getFromCache( key, session );
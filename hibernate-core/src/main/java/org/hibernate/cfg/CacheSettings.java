@@ -175,6 +175,72 @@ public interface CacheSettings {
 	 */
 	String USE_MINIMAL_PUTS = "hibernate.cache.use_minimal_puts";
 
+	/**
+	 * Enables the coalescing of concurrent loads of the same entity after a miss
+	 * in the second-level cache, and specifies the maximum number of milliseconds
+	 * a session waits for an entity being loaded by another session.
+	 * <p>
+	 * When an entity is not found in the second-level cache, and is already being
+	 * loaded from the database by another thread, the session waits for that load
+	 * to complete, and then reads the entity from the cache, instead of loading it
+	 * from the database itself. This avoids a burst of identical queries when a
+	 * frequently accessed entity is evicted from the cache.
+	 *
+	 * @settingDefault {@code 0}, meaning concurrent loads are not coalesced
+	 *
+	 * @see org.hibernate.stat.CacheRegionStatistics#getCoalescedMissCount()
+	 *
+	 * @since 8.0
+	 */
+	String CACHE_MISS_COALESCING_TIMEOUT = "hibernate.cache.miss_coalescing_timeout";
+
+	/**
+	 * Enables write-behind for the writes to the second-level cache which follow
+	 * the completion of a transaction, and for the writes of query results to the
+	 * query cache. These writes are performed in order by a background thread,
+	 * instead of the thread completing the transaction or executing the query, so
+	 * that the latency of a remote cache is not added to each request.
+	 * <p>
+	 * The soft locks of the {@linkplain org.hibernate.cache.spi.access.AccessType#READ_WRITE
+	 * read-write} strategy stay in place until the write is performed, so a read of
+	 * the cache in the meantime goes to the database instead of reading stale data.
+	 * A write performed after its soft lock has timed out invalidates the item
+	 * instead.
+	 * <p>
+	 * The number of pending writes is bounded, and when the queue is full, a write
+	 * is performed by the calling thread. The pending writes which are not performed
+	 * within ten seconds of closing the {@code SessionFactory} are dropped. A write
+	 * performed by the background thread is passed a stateless session of that
+	 * thread, with the tenant of the session which submitted it.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.0
+	 */
+	String CACHE_WRITE_BEHIND = "hibernate.cache.write_behind";
+
+	/**
+	 * Enables the embedding of the state of associated entities in the second-level
+	 * cache entry of an entity. When an entity is cached, the state of each entity
+	 * it references via an eagerly-fetched many-to-one association is stored in the
+	 * same cache entry, transitively, so that an entity and the entities it references
+	 * are assembled from a single cache read, instead of one read per entity.
+	 * <p>
+	 * Only the state of an associated entity which cannot change is embedded: the
+	 * entity must be {@linkplain org.hibernate.annotations.Immutable immutable}, or
+	 * cached with the {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY
+	 * read-only} strategy. Embedded state is not used for an entity which is already
+	 * associated with the session.
+	 * <p>
+	 * This setting has no effect when {@value #USE_STRUCTURED_CACHE} or
+	 * {@value #USE_DIRECT_REFERENCE_CACHE_ENTRIES} is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.0
+	 */
+	String CACHE_EMBED_IMMUTABLE_ASSOCIATIONS = "hibernate.cache.embed_immutable_associations";
+
 	/**
 	 * Enables the use of structured second-level cache entries. This makes the cache
 	 * entries human-readable, but carries a performance cost.
@@ -31,6 +31,38 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Enables adaptive sizing of batch fetching, and specifies the largest batch
+	 * size which may be used.
+	 * <p>
+	 * Batches start at the configured {@linkplain BatchSize#size() batch size}.
+	 * When a batch is filled with keys still waiting to be fetched, the batch size
+	 * used for the same entity or collection role is doubled, and when a batch
+	 * takes longer than the {@linkplain #ADAPTIVE_BATCH_FETCH_TARGET_TIME target
+	 * time}, it is halved, but never below the configured batch size.
+	 * <p>
+	 * Only batch fetching which passes the keys to the database as a single SQL
+	 * array parameter adapts, since the SQL used does not depend on the number of
+	 * keys. This is the case when the dialect supports arrays, and the key is a
+	 * single column.
+	 *
+	 * @settingDefault {@code 0}, meaning batch sizes are not adaptive
+	 *
+	 * @since 8.0
+	 */
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.adaptive_batch_fetch_max_size";
+
+	/**
+	 * The time, in milliseconds, which a batch fetch is expected to take when
+	 * {@linkplain #ADAPTIVE_BATCH_FETCH_MAX_SIZE adaptive batch sizing} is enabled.
+	 * A batch which takes longer causes the batch size to be reduced.
+	 *
+	 * @settingDefault {@code 100}
+	 *
+	 * @since 8.0
+	 */
+	String ADAPTIVE_BATCH_FETCH_TARGET_TIME = "hibernate.adaptive_batch_fetch_target_time";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -46,4 +78,37 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * When enabled, a subselect fetch loads the collections using the keys
+	 * of the owners which were actually loaded by the original query, passed
+	 * as a SQL array or in an {@code IN} list, instead of repeating the
+	 * restriction of the original query in a subquery.
+	 * <p>
+	 * This is usually the better choice when the restriction of the original
+	 * query is expensive to evaluate, or when the original query was paginated.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #USE_SUBSELECT_FETCH
+	 * @see org.hibernate.annotations.FetchMode#SUBSELECT
+	 *
+	 * @since 8.0
+	 */
+	String SUBSELECT_FETCH_BY_KEY = "hibernate.subselect_fetch_by_key";
+
+	/**
+	 * When enabled, accessing an uninitialized {@linkplain org.hibernate.annotations.LazyGroup
+	 * lazy group} of a bytecode-enhanced entity which is {@linkplain BatchSize batch fetchable}
+	 * also loads the same lazy group of other instances of the entity which were loaded by the
+	 * session, up to the batch size, in a single query.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 * @see org.hibernate.annotations.BatchSize
+	 *
+	 * @since 8.0
+	 */
+	String BATCH_FETCH_LAZY_ATTRIBUTES = "hibernate.batch_fetch_lazy_attributes";
 }
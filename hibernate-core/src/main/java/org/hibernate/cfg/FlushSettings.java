@@ -112,4 +112,41 @@ public interface FlushSettings {
 	///
 	/// @since 8.0
 	String GRAPH_DEFER_IDENTITY_INSERTS = "hibernate.flush.queue.graph.defer_identity_inserts";
+
+	/// The minimum number of entities in the persistence context for which the
+	/// dirty-check of a flush is partitioned and computed in parallel on the
+	/// [common fork-join pool][java.util.concurrent.ForkJoinPool#commonPool()].
+	///
+	/// Only the pure snapshot comparison is parallelized, and only for entities
+	/// which are dirty-checked against their loaded state, and whose attributes
+	/// are all immutable basic or embedded values. Interceptor and lifecycle
+	/// callbacks, cascades, and scheduling of updates still happen sequentially,
+	/// using the precomputed results.
+	///
+	/// @apiNote Before a precomputed result is used, the current state of the
+	/// entity is compared with the state which was dirty-checked, and the entity
+	/// is dirty-checked again if it was changed in the meantime, for example by
+	/// a flush-time callback of another entity. This comparison happens
+	/// sequentially, and so limits the benefit of this setting.
+	///
+	/// @settingDefault `0`, meaning the dirty-check is always sequential
+	///
+	/// @since 8.0
+	String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
+	/// The maximum number of operations recorded by a modified bag between
+	/// flushes, so that the flush can derive the affected rows from the
+	/// recorded operations instead of comparing the bag against its snapshot.
+	///
+	/// Appending and removing elements are recorded. Any other modification,
+	/// or more operations than the limit, falls back to the snapshot comparison.
+	/// Operations are only recorded for a bag of immutable basic values or of
+	/// record embeddables, since elements modified in place would go unnoticed.
+	/// Such a bag to which elements were only appended is then updated by
+	/// inserting the new rows, instead of being deleted and recreated.
+	///
+	/// @settingDefault `0`, meaning no operations are recorded
+	///
+	/// @since 8.0
+	String COLLECTION_OPERATION_LOG_LIMIT = "hibernate.flush.collection_operation_log_limit";
 }
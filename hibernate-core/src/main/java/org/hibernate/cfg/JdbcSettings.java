@@ -434,6 +434,26 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Enables adaptive fetch sizes for queries which do not specify a
+	 * {@linkplain org.hibernate.query.SelectionQuery#setFetchSize(int) fetch size}
+	 * explicitly, and specifies the maximum number of column values which may be
+	 * fetched in a single round trip to the database.
+	 * <p>
+	 * The fetch size used by each execution of a query is learned from the number
+	 * of rows read by previous executions of the same query, so that large scans
+	 * are read in few round trips, while the number of rows fetched at once is
+	 * limited by this setting divided by the number of columns of the result set.
+	 * What is learned is kept with the cached interpretation of the query.
+	 *
+	 * @settingDefault {@code 0}, meaning adaptive fetch sizes are disabled
+	 *
+	 * @see #STATEMENT_FETCH_SIZE
+	 *
+	 * @since 8.0
+	 */
+	String ADAPTIVE_FETCH_SIZE_LIMIT = "hibernate.jdbc.adaptive_fetch_size_limit";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
@@ -503,6 +503,23 @@ public interface MappingSettings {
 	 */
 	String DEFAULT_LIST_SEMANTICS = "hibernate.mapping.default_list_semantics";
 
+	/**
+	 * When enabled, the elements of a list or bag of {@code Long}, {@code Integer},
+	 * or {@code Double} values mapped as an {@link jakarta.persistence.ElementCollection}
+	 * are stored in a primitive array when the collection is loaded, and the snapshot
+	 * used for dirty checking is a copy of that array.
+	 * <p>
+	 * This reduces the memory used by large collections of numeric values, and
+	 * speeds up dirty checking of such collections at flush time.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.collection.internal.PrimitiveCollectionSemanticsResolver
+	 *
+	 * @since 8.0
+	 */
+	String PRIMITIVE_ELEMENT_COLLECTIONS = "hibernate.mapping.primitive_element_collections";
+
 	/**
 	 * Whether XML should be validated against their schema as Hibernate reads them.
 	 *
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.internal;
+
+import org.hibernate.collection.spi.CollectionSemantics;
+import org.hibernate.collection.spi.CollectionSemanticsResolver;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Collection;
+import org.hibernate.type.BagType;
+import org.hibernate.type.ListType;
+
+/**
+ * A CollectionSemanticsResolver which stores the elements of lists and bags
+ * of {@code Long}, {@code Integer}, or {@code Double} values in primitive arrays.
+ * Other collections are handled by the {@link StandardCollectionSemanticsResolver}.
+ *
+ * @see org.hibernate.cfg.MappingSettings#PRIMITIVE_ELEMENT_COLLECTIONS
+ *
+ * @since 8.0
+ */
+public class PrimitiveCollectionSemanticsResolver implements CollectionSemanticsResolver {
+	/**
+	 * Singleton access
+	 */
+	public static final PrimitiveCollectionSemanticsResolver INSTANCE = new PrimitiveCollectionSemanticsResolver();
+
+	@Override
+	public <CE, E> CollectionSemantics<CE, E> resolveRepresentation(Collection bootDescriptor) {
+		//noinspection unchecked
+		final CollectionSemantics<CE, E> semantics = (CollectionSemantics<CE, E>)
+				StandardCollectionSemanticsResolver.INSTANCE.resolveRepresentation( bootDescriptor );
+		if ( !bootDescriptor.isOneToMany()
+				&& bootDescriptor.getElement() instanceof BasicValue basicValue
+				&& isListOrBag( bootDescriptor ) ) {
+			final Class<?> elementType = basicValue.resolve().getDomainJavaType().getJavaTypeClass();
+			if ( PrimitiveList.forElementType( elementType, 0 ) != null ) {
+				return new PrimitiveElementCollectionSemantics<>( semantics, elementType );
+			}
+		}
+		return semantics;
+	}
+
+	private static boolean isListOrBag(Collection bootDescriptor) {
+		final var collectionType = bootDescriptor.getCollectionType();
+		// exactly, since subtypes instantiate other collections
+		return collectionType.getClass() == ListType.class
+			|| collectionType.getClass() == BagType.class;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.internal;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.hibernate.collection.spi.CollectionInitializerProducer;
+import org.hibernate.collection.spi.CollectionSemantics;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.metamodel.mapping.CollectionPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.DomainResultCreationState;
+import org.hibernate.sql.results.graph.Fetch;
+import org.hibernate.sql.results.graph.FetchParent;
+
+/**
+ * CollectionSemantics for a list or bag of basic values of a primitive
+ * wrapper type, which stores the elements in a {@link PrimitiveList}.
+ * Everything else is delegated to the semantics of the mapped collection.
+ *
+ * @see PrimitiveCollectionSemanticsResolver
+ *
+ * @since 8.0
+ */
+public class PrimitiveElementCollectionSemantics<CE, E> implements CollectionSemantics<CE, E> {
+	private final CollectionSemantics<CE, E> delegate;
+	private final Class<?> elementType;
+
+	public PrimitiveElementCollectionSemantics(CollectionSemantics<CE, E> delegate, Class<?> elementType) {
+		this.delegate = delegate;
+		this.elementType = elementType;
+	}
+
+	@Override
+	public CollectionClassification getCollectionClassification() {
+		return delegate.getCollectionClassification();
+	}
+
+	@Override
+	public Class<?> getCollectionJavaType() {
+		return delegate.getCollectionJavaType();
+	}
+
+	@Override
+	public CE instantiateRaw(int anticipatedSize, CollectionPersister collectionDescriptor) {
+		//noinspection unchecked
+		return (CE) PrimitiveList.forElementType( elementType, Math.max( anticipatedSize, 0 ) );
+	}
+
+	@Override
+	public <X> Object instantiateWithElements(
+			int anticipatedSize,
+			CollectionPersister collectionDescriptor,
+			Collection<? extends X> elements) {
+		//noinspection unchecked
+		final var list = (Collection<X>) instantiateRaw( anticipatedSize, collectionDescriptor );
+		list.addAll( elements );
+		return list;
+	}
+
+	@Override
+	public int collectionSize(Object rawCollection) {
+		return delegate.collectionSize( rawCollection );
+	}
+
+	@Override
+	public Object copy(Object rawCollection, CollectionPersister collectionDescriptor) {
+		return rawCollection instanceof Collection<?> collection
+				? instantiateWithElements( collection.size(), collectionDescriptor, collection )
+				: rawCollection;
+	}
+
+	@Override
+	public Set<?> copyPart(
+			Object rawCollection,
+			CollectionPersister collectionDescriptor,
+			CollectionPart.Nature partNature) {
+		return delegate.copyPart( rawCollection, collectionDescriptor, partNature );
+	}
+
+	@Override
+	public PersistentCollection<E> instantiateWrapper(
+			Object key,
+			CollectionPersister collectionDescriptor,
+			SharedSessionContractImplementor session) {
+		return delegate.instantiateWrapper( key, collectionDescriptor, session );
+	}
+
+	@Override
+	public PersistentCollection<E> wrap(
+			CE rawCollection,
+			CollectionPersister collectionDescriptor,
+			SharedSessionContractImplementor session) {
+		return delegate.wrap( rawCollection, collectionDescriptor, session );
+	}
+
+	@Override
+	public Iterator<E> getElementIterator(CE rawCollection) {
+		return delegate.getElementIterator( rawCollection );
+	}
+
+	@Override
+	public void visitElements(CE rawCollection, Consumer<? super E> action) {
+		delegate.visitElements( rawCollection, action );
+	}
+
+	@Override
+	public CollectionInitializerProducer createInitializerProducer(
+			NavigablePath navigablePath,
+			PluralAttributeMapping attributeMapping,
+			FetchParent fetchParent,
+			boolean selected,
+			String resultVariable,
+			Fetch indexFetch,
+			Fetch elementFetch,
+			DomainResultCreationState creationState) {
+		return delegate.createInitializerProducer(
+				navigablePath,
+				attributeMapping,
+				fetchParent,
+				selected,
+				resultVariable,
+				indexFetch,
+				elementFetch,
+				creationState
+		);
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link java.util.List} of boxed primitive values, stored in a primitive
+ * array. Null elements are permitted, and tracked separately.
+ * <p>
+ * Used as the raw collection of a {@link org.hibernate.collection.spi.PersistentList}
+ * or {@link org.hibernate.collection.spi.PersistentBag} of basic values, and as its
+ * snapshot, which is then a simple {@linkplain #copy copy} of the array.
+ *
+ * @see org.hibernate.cfg.MappingSettings#PRIMITIVE_ELEMENT_COLLECTIONS
+ *
+ * @since 8.0
+ */
+public abstract class PrimitiveList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private int size;
+	private @Nullable BitSet nulls;
+
+	PrimitiveList() {
+	}
+
+	/**
+	 * A new empty list with storage for elements of the given type,
+	 * or {@code null} if elements of that type cannot be stored in
+	 * a primitive array.
+	 */
+	public static @Nullable PrimitiveList<?> forElementType(Class<?> elementType, int capacity) {
+		if ( elementType == Long.class ) {
+			return new OfLong( capacity );
+		}
+		else if ( elementType == Integer.class ) {
+			return new OfInt( capacity );
+		}
+		else if ( elementType == Double.class ) {
+			return new OfDouble( capacity );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * An independent copy of this list.
+	 */
+	public abstract PrimitiveList<E> copy();
+
+	abstract int capacity();
+
+	abstract void resize(int capacity);
+
+	abstract void move(int from, int to, int length);
+
+	abstract E read(int index);
+
+	abstract void write(int index, E value);
+
+	abstract void writeZero(int index);
+
+	abstract boolean valuesEqual(PrimitiveList<?> that, int length);
+
+	/**
+	 * Copy the size and null elements to the given copy of the array.
+	 */
+	<L extends PrimitiveList<E>> L copyState(L copy) {
+		copy.size = size;
+		copy.nulls = nulls == null || nulls.isEmpty() ? null : (BitSet) nulls.clone();
+		return copy;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public E get(int index) {
+		Objects.checkIndex( index, size );
+		return isNull( index ) ? null : read( index );
+	}
+
+	@Override
+	public E set(int index, E element) {
+		Objects.checkIndex( index, size );
+		final E old = get( index );
+		put( index, element );
+		return old;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		Objects.checkIndex( index, size + 1 );
+		if ( size == capacity() ) {
+			resize( Math.max( 10, size + ( size >> 1 ) ) );
+		}
+		move( index, index + 1, size - index );
+		if ( nulls != null ) {
+			shiftNulls( index, size, 1 );
+		}
+		size++;
+		put( index, element );
+		modCount++;
+	}
+
+	@Override
+	public E remove(int index) {
+		Objects.checkIndex( index, size );
+		final E old = get( index );
+		move( index + 1, index, size - index - 1 );
+		if ( nulls != null ) {
+			nulls.clear( index );
+			shiftNulls( index + 1, size, -1 );
+		}
+		size--;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		nulls = null;
+		modCount++;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if ( object == this ) {
+			return true;
+		}
+		else if ( object != null && object.getClass() == getClass() ) {
+			final var that = (PrimitiveList<?>) object;
+			return size == that.size
+				&& Objects.equals( nonEmptyNulls(), that.nonEmptyNulls() )
+				&& valuesEqual( that, size );
+		}
+		else {
+			return super.equals( object );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+
+	private boolean isNull(int index) {
+		return nulls != null && nulls.get( index );
+	}
+
+	private @Nullable BitSet nonEmptyNulls() {
+		return nulls == null || nulls.isEmpty() ? null : nulls;
+	}
+
+	private void put(int index, E element) {
+		if ( element == null ) {
+			if ( nulls == null ) {
+				nulls = new BitSet();
+			}
+			nulls.set( index );
+			// so that valuesEqual() need not care about nulls
+			writeZero( index );
+		}
+		else {
+			if ( nulls != null ) {
+				nulls.clear( index );
+			}
+			write( index, element );
+		}
+	}
+
+	private void shiftNulls(int from, int to, int distance) {
+		assert nulls != null;
+		final BitSet moved = nulls.get( from, to );
+		nulls.clear( from, to );
+		for ( int i = moved.nextSetBit( 0 ); i >= 0; i = moved.nextSetBit( i + 1 ) ) {
+			nulls.set( from + i + distance );
+		}
+	}
+
+	static final class OfLong extends PrimitiveList<Long> {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private long[] values;
+
+		OfLong(int capacity) {
+			values = new long[capacity];
+		}
+
+		@Override
+		public OfLong copy() {
+			final var copy = new OfLong( 0 );
+			copy.values = Arrays.copyOf( values, size() );
+			return copyState( copy );
+		}
+
+		@Override
+		int capacity() {
+			return values.length;
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		void move(int from, int to, int length) {
+			System.arraycopy( values, from, values, to, length );
+		}
+
+		@Override
+		Long read(int index) {
+			return values[index];
+		}
+
+		@Override
+		void write(int index, Long value) {
+			values[index] = value;
+		}
+
+		@Override
+		void writeZero(int index) {
+			values[index] = 0L;
+		}
+
+		@Override
+		boolean valuesEqual(PrimitiveList<?> that, int length) {
+			return Arrays.equals( values, 0, length, ( (OfLong) that ).values, 0, length );
+		}
+	}
+
+	static final class OfInt extends PrimitiveList<Integer> {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private int[] values;
+
+		OfInt(int capacity) {
+			values = new int[capacity];
+		}
+
+		@Override
+		public OfInt copy() {
+			final var copy = new OfInt( 0 );
+			copy.values = Arrays.copyOf( values, size() );
+			return copyState( copy );
+		}
+
+		@Override
+		int capacity() {
+			return values.length;
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		void move(int from, int to, int length) {
+			System.arraycopy( values, from, values, to, length );
+		}
+
+		@Override
+		Integer read(int index) {
+			return values[index];
+		}
+
+		@Override
+		void write(int index, Integer value) {
+			values[index] = value;
+		}
+
+		@Override
+		void writeZero(int index) {
+			values[index] = 0;
+		}
+
+		@Override
+		boolean valuesEqual(PrimitiveList<?> that, int length) {
+			return Arrays.equals( values, 0, length, ( (OfInt) that ).values, 0, length );
+		}
+	}
+
+	static final class OfDouble extends PrimitiveList<Double> {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private double[] values;
+
+		OfDouble(int capacity) {
+			values = new double[capacity];
+		}
+
+		@Override
+		public OfDouble copy() {
+			final var copy = new OfDouble( 0 );
+			copy.values = Arrays.copyOf( values, size() );
+			return copyState( copy );
+		}
+
+		@Override
+		int capacity() {
+			return values.length;
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		void move(int from, int to, int length) {
+			System.arraycopy( values, from, values, to, length );
+		}
+
+		@Override
+		Double read(int index) {
+			return values[index];
+		}
+
+		@Override
+		void write(int index, Double value) {
+			values[index] = value;
+		}
+
+		@Override
+		void writeZero(int index) {
+			values[index] = 0d;
+		}
+
+		@Override
+		boolean valuesEqual(PrimitiveList<?> that, int length) {
+			// compares bits, consistently with Double.equals()
+			return Arrays.equals( values, 0, length, ( (OfDouble) that ).values, 0, length );
+		}
+	}
+}
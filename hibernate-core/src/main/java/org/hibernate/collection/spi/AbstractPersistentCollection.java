@@ -7,6 +7,7 @@
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -73,6 +74,8 @@
 	// collections detect changes made via their public interface and mark
 	// themselves as dirty as a performance optimization
 	private boolean dirty;
+	// incremented by every call to dirty()
+	private transient int modificationCount;
 	protected boolean elementRemoved;
 	private @Nullable Serializable storedSnapshot;
 
@@ -133,6 +136,17 @@ public final void clearDirty() {
 	@Override
 	public final void dirty() {
 		dirty = true;
+		modificationCount++;
+	}
+
+	/**
+	 * The number of times this collection was {@linkplain #dirty() marked dirty},
+	 * allowing a subclass to detect modifications it did not itself record.
+	 *
+	 * @since 8.0
+	 */
+	protected final int getModificationCount() {
+		return modificationCount;
 	}
 
 	@Override
@@ -178,7 +192,7 @@ protected boolean readSize() {
 									if ( hasQueuedOperations() ) {
 										session.flush();
 									}
-									cachedSize = persister.getSize( entry.getLoadedKey(), session );
+									cachedSize = readSize( entry.getLoadedKey(), persister );
 									return true;
 								}
 								else {
@@ -208,12 +222,47 @@ public int getSize() {
 				if ( hasQueuedOperations() ) {
 					session.flush();
 				}
-				cachedSize = entry.getLoadedPersister().getSize( entry.getLoadedKey(), session );
+				cachedSize = readSize( entry.getLoadedKey(), entry.getLoadedPersister() );
 				return cachedSize;
 			}
 		}
 	}
 
+	/**
+	 * Read the size of this collection from the database, along with the
+	 * sizes of other uninitialized collections of the same role waiting in
+	 * the {@link org.hibernate.engine.spi.BatchFetchQueue}, when the
+	 * collection is batch fetched. The sizes of the other collections are
+	 * kept by the {@code BatchFetchQueue} until the next flush.
+	 */
+	private int readSize(Object key, CollectionPersister persister) {
+		final var batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int prefetchedSize =
+				batchFetchQueue.removePrefetchedCollectionSize( session.generateCollectionKey( persister, key ) );
+		if ( prefetchedSize >= 0 ) {
+			return prefetchedSize;
+		}
+		final var influencers = session.getLoadQueryInfluencers();
+		final int batchSize = influencers.effectiveBatchSize( persister );
+		if ( batchSize > 1 && influencers.effectivelyBatchLoadable( persister ) ) {
+			final Object[] keys = batchFetchQueue.getCollectionBatch( persister, key, batchSize );
+			int keyCount = 0;
+			while ( keyCount < keys.length && keys[keyCount] != null ) {
+				keyCount++;
+			}
+			if ( keyCount > 1 ) {
+				final Object[] batchKeys = keyCount == keys.length ? keys : Arrays.copyOf( keys, keyCount );
+				final int[] sizes = persister.getSizes( batchKeys, session );
+				for ( int i = 1; i < keyCount; i++ ) {
+					batchFetchQueue.addPrefetchedCollectionSize(
+							session.generateCollectionKey( persister, batchKeys[i] ), sizes[i] );
+				}
+				return sizes[0];
+			}
+		}
+		return persister.getSize( key, session );
+	}
+
 	/**
 	 * TBH not sure why this is public
 	 *
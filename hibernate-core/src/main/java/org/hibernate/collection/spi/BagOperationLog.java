@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.spi;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The operations performed on a {@link PersistentBag} since its snapshot
+ * was taken, from which the rows to insert and delete may be derived
+ * without comparing the bag against the snapshot.
+ * <p>
+ * Only appending elements and removing elements are recorded, so the
+ * elements of the snapshot still present in the bag always precede
+ * the appended elements. The bag abandons the log as soon as it is
+ * modified in any other way, or after too many operations. The log
+ * is only valid for the snapshot it was started for.
+ *
+ * @see org.hibernate.cfg.FlushSettings#COLLECTION_OPERATION_LOG_LIMIT
+ *
+ * @since 8.0
+ */
+final class BagOperationLog {
+	private final int limit;
+	private final Serializable snapshot;
+	private final List<Object> removed = new ArrayList<>();
+	private int retained;
+	private int operations;
+	private int modificationCount;
+
+	/**
+	 * @param limit The maximum number of operations to record
+	 * @param snapshot The snapshot
+	 * @param size The number of elements of the snapshot
+	 * @param modificationCount The current modification count of the bag
+	 */
+	BagOperationLog(int limit, Serializable snapshot, int size, int modificationCount) {
+		this.limit = limit;
+		this.snapshot = snapshot;
+		this.retained = size;
+		this.modificationCount = modificationCount;
+	}
+
+	/**
+	 * Was the log started for the given snapshot?
+	 */
+	boolean isFor(Serializable snapshot) {
+		return this.snapshot == snapshot;
+	}
+
+	/**
+	 * Does the log account for every modification of the bag,
+	 * given its current modification count?
+	 */
+	boolean isComplete(int modificationCount) {
+		return this.modificationCount == modificationCount;
+	}
+
+	/**
+	 * Record that elements were appended to the bag.
+	 *
+	 * @return {@code false} if the log is full
+	 */
+	boolean appended(int modificationCount) {
+		return record( modificationCount );
+	}
+
+	/**
+	 * Record that the element at the given position was removed from the bag.
+	 *
+	 * @return {@code false} if the log is full
+	 */
+	boolean removed(int position, Object element, int modificationCount) {
+		if ( position < retained ) {
+			retained--;
+			removed.add( element );
+		}
+		return record( modificationCount );
+	}
+
+	private boolean record(int modificationCount) {
+		this.modificationCount = modificationCount;
+		return ++operations <= limit;
+	}
+
+	/**
+	 * Was any element of the snapshot removed?
+	 */
+	boolean hasRemovals() {
+		return !removed.isEmpty();
+	}
+
+	/**
+	 * The removed elements of the snapshot.
+	 */
+	Iterator<?> removals() {
+		return removed.iterator();
+	}
+
+	/**
+	 * Is the element at the given position of the bag absent from the snapshot?
+	 */
+	boolean isAppended(int position) {
+		return position >= retained;
+	}
+}
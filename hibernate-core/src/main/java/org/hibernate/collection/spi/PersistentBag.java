@@ -14,8 +14,10 @@
 import java.util.ListIterator;
 import java.util.Map;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.collection.internal.PrimitiveList;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -55,6 +57,8 @@
 	 */
 	protected Collection<E> collection;
 
+	private transient @Nullable BagOperationLog operationLog;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -137,6 +141,10 @@ public boolean equalsSnapshot(CollectionPersister persister) throws HibernateExc
 		if ( sn.size() != collection.size() ) {
 			return false;
 		}
+		if ( collection instanceof PrimitiveList<?> && collection.equals( sn ) ) {
+			// same elements in the same order
+			return true;
+		}
 
 		// HHH-11032 - Group objects by Type.getHashCode() to reduce the complexity of the search
 		final var hashToInstancesBag = groupByEqualityHash( collection, elementType );
@@ -237,11 +245,62 @@ private boolean expectOccurrences(Object element, List<Object> list, Type elemen
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
-		final ArrayList<E> clonedList = new ArrayList<>( collection.size() );
-		for ( E item : collection ) {
-			clonedList.add( (E) persister.getElementType().deepCopy( item, persister.getFactory() ) );
+		final Serializable snapshot;
+		if ( collection instanceof PrimitiveList<?> primitiveList ) {
+			// the elements are immutable
+			snapshot = primitiveList.copy();
+		}
+		else {
+			final ArrayList<E> clonedList = new ArrayList<>( collection.size() );
+			for ( E item : collection ) {
+				clonedList.add( (E) persister.getElementType().deepCopy( item, persister.getFactory() ) );
+			}
+			snapshot = clonedList;
+		}
+		// the snapshot we return may become the new snapshot, so start a new
+		// log for it, unless elements might be modified without our noticing
+		final int operationLogLimit = persister.getFactory().getSessionFactoryOptions().getCollectionOperationLogLimit();
+		operationLog = operationLogLimit > 0 && bag != null && !persister.getElementType().isMutable()
+				? new BagOperationLog( operationLogLimit, snapshot, bag.size(), getModificationCount() )
+				: null;
+		return snapshot;
+	}
+
+	/**
+	 * The {@link BagOperationLog}, if it accounts for every modification
+	 * since the snapshot was taken.
+	 */
+	private @Nullable BagOperationLog completeOperationLog() {
+		if ( operationLog != null && !operationLog.isComplete( getModificationCount() ) ) {
+			operationLog = null;
+		}
+		return operationLog;
+	}
+
+	/**
+	 * The {@link BagOperationLog}, if it accounts for every modification
+	 * since the current snapshot was taken. A snapshot which was taken but
+	 * then not stored, for example by a merge, does not start a valid log.
+	 */
+	private @Nullable BagOperationLog snapshotOperationLog() {
+		final var log = completeOperationLog();
+		if ( log != null && !log.isFor( getSnapshot() ) ) {
+			operationLog = null;
+			return null;
+		}
+		return log;
+	}
+
+	private void logAppended(@Nullable BagOperationLog log) {
+		if ( log != null && !log.appended( getModificationCount() ) ) {
+			operationLog = null;
+		}
+	}
+
+	private void logRemoved(@Nullable BagOperationLog log, int position, Object element) {
+		if ( log != null && !log.removed( position, element, getModificationCount() ) ) {
+			operationLog = null;
 		}
-		return clonedList;
 	}
 
 	@Override
@@ -291,7 +350,15 @@ public void initializeFromCache(CollectionPersister collectionDescriptor, Object
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		if ( persister.isOneToMany() ) {
+			return false;
+		}
+		else {
+			// rows of a bag of values cannot be deleted one by one,
+			// but appended elements can simply be inserted
+			final var log = snapshotOperationLog();
+			return log == null || log.hasRemovals();
+		}
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -304,6 +371,10 @@ public boolean needsRecreate(CollectionPersister persister) {
 
 	@Override
 	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final var log = snapshotOperationLog();
+		if ( log != null ) {
+			return log.removals();
+		}
 		final Type elementType = persister.getElementType();
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
@@ -337,6 +408,10 @@ public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsForm
 
 	@Override
 	public boolean hasDeletes(CollectionPersister persister) {
+		final var log = snapshotOperationLog();
+		if ( log != null ) {
+			return log.hasRemovals();
+		}
 		final Type elementType = persister.getElementType();
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn == null) {
@@ -374,6 +449,10 @@ public boolean hasDeletes(CollectionPersister persister) {
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		final var log = snapshotOperationLog();
+		if ( log != null ) {
+			return log.isAppended( i );
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -438,8 +517,12 @@ public <A> A[] toArray(A[] a) {
 	@Override
 	public boolean add(E object) {
 		if ( !isOperationQueueEnabled() ) {
+			initialize( true );
+			final var log = completeOperationLog();
 			write();
-			return collection.add( object );
+			final boolean added = collection.add( object );
+			logAppended( log );
+			return added;
 		}
 		else {
 			queueOperation( new SimpleAdd( object ) );
@@ -450,7 +533,21 @@ public boolean add(E object) {
 	@Override
 	public boolean remove(Object o) {
 		initialize( true );
-		if ( collection.remove( o ) ) {
+		final var log = completeOperationLog();
+		if ( log != null ) {
+			final int position = bagAsList().indexOf( o );
+			if ( position >= 0 ) {
+				final E element = bagAsList().remove( position );
+				elementRemoved = true;
+				dirty();
+				logRemoved( log, position, element );
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+		else if ( collection.remove( o ) ) {
 			elementRemoved = true;
 			dirty();
 			return true;
@@ -472,8 +569,12 @@ public boolean addAll(Collection<? extends E> values) {
 			return false;
 		}
 		if ( !isOperationQueueEnabled() ) {
+			initialize( true );
+			final var log = completeOperationLog();
 			write();
-			return collection.addAll( values );
+			final boolean added = collection.addAll( values );
+			logAppended( log );
+			return added;
 		}
 		else {
 			for ( E value : values ) {
@@ -614,8 +715,12 @@ public ListIterator<E> listIterator(int i) {
 
 	@Override
 	public E remove(int i) {
+		initialize( true );
+		final var log = completeOperationLog();
 		write();
-		return bagAsList().remove( i );
+		final E element = bagAsList().remove( i );
+		logRemoved( log, i, element );
+		return element;
 	}
 
 	@Override
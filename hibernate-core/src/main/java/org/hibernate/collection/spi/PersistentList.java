@@ -14,6 +14,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.collection.internal.PrimitiveList;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.Optional.Defined;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -70,6 +71,10 @@ protected List<E> getRawList() {
 
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( list instanceof PrimitiveList<?> primitiveList ) {
+			// the elements are immutable
+			return primitiveList.copy();
+		}
 		final ArrayList<Object> clonedList = new ArrayList<>( list.size() );
 		for ( Object element : list ) {
 			final Object deepCopy = persister.getElementType().deepCopy( element, persister.getFactory() );
@@ -99,6 +104,9 @@ public boolean equalsSnapshot(CollectionPersister persister) throws HibernateExc
 		if ( sn.size() != this.list.size() ) {
 			return false;
 		}
+		if ( list instanceof PrimitiveList<?> && sn instanceof PrimitiveList<?> ) {
+			return list.equals( sn );
+		}
 		final Iterator<?> itr = list.iterator();
 		final Iterator<?> snapshotItr = sn.iterator();
 		while ( itr.hasNext() ) {
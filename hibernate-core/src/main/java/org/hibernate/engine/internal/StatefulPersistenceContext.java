@@ -563,6 +563,7 @@ private EntityHolderImpl removeHolder(EntityKey key) {
 		final var fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
+			fetchQueue.removeLazyAttributeBatchLoadableEntityKey( key );
 			fetchQueue.removeSubselect( key );
 		}
 		return holder;
@@ -9,6 +9,7 @@
 import java.util.Map;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -23,6 +24,7 @@
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
 import static org.hibernate.engine.internal.CacheHelper.readingFromCache;
 import static org.hibernate.engine.internal.CacheHelper.usingCache;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptableOrNull;
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedSetOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
@@ -64,6 +66,23 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * Used to hold the keys of the entities which were loaded with uninitialized lazy attributes, and
+	 * are therefore eligible for batch-fetching of lazy attributes. Ultimately used by
+	 * {@link #getLazyAttributeBatch} to build lazy attribute load batches.
+	 * <p>
+	 * The keys are segmented by root entity name, and checked again when a batch is built.
+	 */
+	private @Nullable Map<String, LinkedHashSet<EntityKey>> lazyAttributeBatchLoadableEntityKeys;
+
+	/**
+	 * Used to hold the sizes of uninitialized collections which were read along with the size
+	 * of another collection of the same role. Ultimately used by {@link #removePrefetchedCollectionSize}.
+	 * <p>
+	 * The sizes are discarded by the next flush, which might change them.
+	 */
+	private @Nullable Map<CollectionKey, Integer> prefetchedCollectionSizes;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -82,6 +101,8 @@ public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		lazyAttributeBatchLoadableEntityKeys = null;
+		prefetchedCollectionSizes = null;
 	}
 
 
@@ -286,6 +307,95 @@ else if ( !isCached( entityKey, entityPersister ) ) {
 	}
 
 
+	// lazy attribute batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * If an EntityKey represents an entity which was just loaded with
+	 * uninitialized lazy attributes, and batch fetching of lazy attributes
+	 * is enabled for it, add it to the queue.
+	 *
+	 * @param persister The persister of the concrete type of the entity
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_LAZY_ATTRIBUTES
+	 */
+	public void addLazyAttributeBatchLoadableEntityKey(EntityKey key, EntityPersister persister) {
+		if ( persister.getFactory().getSessionFactoryOptions().isLazyAttributeBatchFetchEnabled()
+				&& persister.getBytecodeEnhancementMetadata().getLazyAttributesMetadata().hasLazyAttributes()
+				&& getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+			if ( lazyAttributeBatchLoadableEntityKeys == null ) {
+				lazyAttributeBatchLoadableEntityKeys = mapOfSize( 12 );
+			}
+			lazyAttributeBatchLoadableEntityKeys.computeIfAbsent( persister.getRootEntityName(), k -> linkedSetOfSize( 8 ) )
+					.add( key );
+		}
+	}
+
+	/**
+	 * After evicting or deleting an entity, we don't need to
+	 * batch fetch its lazy attributes anymore, remove it from
+	 * the queue if necessary
+	 */
+	public void removeLazyAttributeBatchLoadableEntityKey(EntityKey key) {
+		if ( lazyAttributeBatchLoadableEntityKeys != null ) {
+			final var entityKeys = lazyAttributeBatchLoadableEntityKeys.get( key.getPersister().getRootEntityName() );
+			if ( entityKeys != null ) {
+				entityKeys.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of managed instances of the given entity type whose given
+	 * lazy attribute is not initialized, starting with the given instance.
+	 * Keys of entities which are no longer managed, or which have no
+	 * uninitialized lazy attribute left, are removed from the queue.
+	 *
+	 * @return the instances to initialize, by entity key
+	 */
+	public Map<EntityKey, Object> getLazyAttributeBatch(
+			final EntityPersister entityDescriptor,
+			final EntityKey loadingKey,
+			final Object loadingEntity,
+			final String attributeName,
+			final int maxBatchSize) {
+		final Map<EntityKey, Object> batch = linkedMapOfSize( maxBatchSize );
+		// make sure we load the entity being loaded in the batch!
+		batch.put( loadingKey, loadingEntity );
+		if ( lazyAttributeBatchLoadableEntityKeys != null ) {
+			final var entityKeys = lazyAttributeBatchLoadableEntityKeys.get( entityDescriptor.getRootEntityName() );
+			if ( entityKeys != null ) {
+				final var iterator = entityKeys.iterator();
+				while ( batch.size() < maxBatchSize && iterator.hasNext() ) {
+					final var entityKey = iterator.next();
+					final Object entity = context.getEntity( entityKey );
+					final var interceptor = entity == null ? null : getLazyAttributeLoadingInterceptor( entity );
+					if ( interceptor == null || !interceptor.hasAnyUninitializedAttributes() ) {
+						iterator.remove();
+					}
+					else if ( entity != loadingEntity && !interceptor.isAttributeLoaded( attributeName ) ) {
+						final var entry = context.getEntry( entity );
+						if ( entry != null
+								&& entry.getPersister() == entityDescriptor
+								&& entry.getStatus() != Status.LOADING
+								&& !entry.getStatus().isDeletedOrGone() ) {
+							batch.put( entityKey, entity );
+						}
+					}
+				}
+			}
+		}
+		return batch;
+	}
+
+	private static @Nullable LazyAttributeLoadingInterceptor getLazyAttributeLoadingInterceptor(Object entity) {
+		final var interceptable = asPersistentAttributeInterceptableOrNull( entity );
+		return interceptable != null
+			&& interceptable.$$_hibernate_getInterceptor() instanceof LazyAttributeLoadingInterceptor interceptor
+				? interceptor
+				: null;
+	}
+
+
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -459,6 +569,37 @@ else if ( !isCached( loadedKey, collectionPersister ) ) {
 		return keys;
 	}
 
+	/**
+	 * Remember the size of an uninitialized collection, read from the database
+	 * along with the size of another collection, until the next flush.
+	 *
+	 * @since 8.0
+	 */
+	public void addPrefetchedCollectionSize(CollectionKey key, int size) {
+		if ( prefetchedCollectionSizes == null ) {
+			prefetchedCollectionSizes = mapOfSize( 12 );
+		}
+		prefetchedCollectionSizes.put( key, size );
+	}
+
+	/**
+	 * Take the size of the collection with the given key, if it was read along
+	 * with the size of another collection since the last flush.
+	 *
+	 * @return the size, or {@code -1} if it was not read
+	 *
+	 * @since 8.0
+	 */
+	public int removePrefetchedCollectionSize(CollectionKey key) {
+		if ( prefetchedCollectionSizes != null ) {
+			final Integer size = prefetchedCollectionSizes.remove( key );
+			if ( size != null ) {
+				return size;
+			}
+		}
+		return -1;
+	}
+
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
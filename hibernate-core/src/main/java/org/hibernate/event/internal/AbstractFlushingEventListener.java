@@ -247,9 +247,14 @@ private int flushEntities(@Nonnull FlushEvent event, @Nonnull PersistenceContext
 		final var entityEntries = persistenceContext.reentrantSafeManagedEntities();
 		final int count = entityEntries.length;
 
+		// for very large persistence contexts, optionally do the
+		// expensive part of the dirty-check up front, in parallel
+		final var parallelDirtyCheck = ParallelDirtyCheck.compute( entityEntries, source );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
-		for ( var me : entityEntries ) {
+		for ( int index = 0; index < count; index++ ) {
+			final var me = entityEntries[index];
 			// Update the status of the object and if necessary, schedule an update
 			final var entry = me.$$_hibernate_getEntityEntry();
 			final var status = entry.getStatus();
@@ -261,6 +266,9 @@ private int flushEntities(@Nonnull FlushEvent event, @Nonnull PersistenceContext
 						entry
 				);
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( index, entityEvent );
+				}
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
 				assert entityEvent.getInstanceGenerationId() == eventGenerationId;
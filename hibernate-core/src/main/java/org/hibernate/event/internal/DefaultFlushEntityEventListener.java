@@ -134,7 +134,8 @@ public void onFlushEntity(@Nonnull FlushEntityEvent event) {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values =
+				getValues( entity, entry, mightBeDirty, event.getPrecomputedPropertyValues(), session );
 
 		event.setPropertyValues( values );
 
@@ -176,6 +177,7 @@ private Object[] getValues(
 			@Nonnull Object entity,
 			@Nonnull EntityEntry entry,
 			boolean mightBeDirty,
+			@Nullable Object[] precomputedValues,
 			@Nonnull SessionImplementor session) {
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
@@ -189,14 +191,33 @@ private Object[] getValues(
 			else {
 				final var persister = entry.getPersister();
 				checkId( entity, persister, entry, session );
-				// grab its current state
-				final Object[] values = persister.getValues( entity );
+				// grab its current state, and reuse the state which was already
+				// dirty-checked if nothing was changed since, for example by a
+				// flush-time callback of another entity
+				final Object[] currentValues = persister.getValues( entity );
+				final Object[] values =
+						precomputedValues != null && isSameState( persister, currentValues, precomputedValues )
+								? precomputedValues
+								: currentValues;
 				checkNaturalId( persister, entity, entry, values, loadedState, session );
 				return values;
 			}
 		}
 	}
 
+	private static boolean isSameState(
+			@Nonnull EntityPersister persister,
+			@Nonnull Object[] currentValues,
+			@Nonnull Object[] precomputedValues) {
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !types[i].isSame( currentValues[i], precomputedValues[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Wrap up any new collections directly referenced by the object
 	 * or its components.
@@ -362,6 +383,8 @@ protected boolean handleInterception(@Nonnull FlushEntityEvent event) {
 		final boolean intercepted = invokeInterceptor( event );
 		//now we might need to recalculate the dirtyProperties array
 		if ( intercepted && event.isDirtyCheckPossible() ) {
+			// the state was modified, so any precomputed result is stale
+			event.setPrecomputedDirtyCheck( null, null );
 			dirtyCheck( event );
 		}
 		return intercepted;
@@ -546,7 +569,11 @@ private static int[] performDirtyCheck(@Nonnull FlushEntityEvent event) {
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties =
+						event.hasPrecomputedDirtyCheck() && values == event.getPrecomputedPropertyValues()
+								// already done in parallel at the start of the flush
+								? event.getPrecomputedDirtyProperties()
+								: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
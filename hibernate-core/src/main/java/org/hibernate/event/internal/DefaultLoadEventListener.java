@@ -33,6 +33,7 @@
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+import static org.hibernate.stat.internal.StatsHelper.getRootEntityRole;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -607,10 +608,13 @@ private Object loadFromCacheOrDatasource(
 			@Nonnull LoadEvent event,
 			@Nonnull EntityPersister persister,
 			@Nonnull EntityKey keyToLoad) {
-		final Object entity = event.getSession()
-				.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
+		final var session = event.getSession();
+		final Object entity =
+				session.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
 		if ( entity == null ) {
-			return loadFromDatasource( event, persister );
+			return isMissCoalescingEnabled( event, persister )
+					? loadAfterConcurrentLoad( event, persister, keyToLoad )
+					: loadFromDatasource( event, persister );
 		}
 		else {
 			if ( EVENT_LISTENER_LOGGER.isTraceEnabled() ) {
@@ -621,6 +625,59 @@ private Object loadFromCacheOrDatasource(
 		}
 	}
 
+	private static boolean isMissCoalescingEnabled(@Nonnull LoadEvent event, @Nonnull EntityPersister persister) {
+		final var session = event.getSession();
+		final var cacheMode = session.getCacheMode();
+		return event.getFactory().getSessionFactoryOptions().getCacheMissCoalescingTimeout() > 0
+			&& cacheMode.isGetEnabled() && cacheMode.isPutEnabled()
+			&& event.getLockMode().lessThan( LockMode.READ )
+			&& persister.canReadFromCache() && persister.canWriteToCache();
+	}
+
+	/**
+	 * After a miss in the second-level cache, wait for any concurrent load of
+	 * the same entity, and read it from the cache if it was loaded. Otherwise,
+	 * load it from the datasource, while concurrent loads wait.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_MISS_COALESCING_TIMEOUT
+	 */
+	@Nullable
+	private Object loadAfterConcurrentLoad(
+			@Nonnull LoadEvent event,
+			@Nonnull EntityPersister persister,
+			@Nonnull EntityKey keyToLoad) {
+		final var session = event.getSession();
+		final var factory = event.getFactory();
+		final var cache = persister.getCacheAccessStrategy();
+		assert cache != null;
+		final Object cacheKey =
+				cache.generateCacheKey( event.getEntityId(), persister, factory, session.getTenantIdentifier() );
+		final long timeout = factory.getSessionFactoryOptions().getCacheMissCoalescingTimeout();
+		if ( cache.awaitConcurrentLoad( cacheKey, timeout ) ) {
+			final Object entity =
+					session.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
+			if ( entity != null ) {
+				final var statistics = factory.getStatistics();
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.entityCacheMissCoalesced( getRootEntityRole( persister ), cache.getRegion().getName() );
+				}
+				return entity;
+			}
+			else {
+				// the concurrent load did not put the entity in the cache
+				return loadFromDatasource( event, persister );
+			}
+		}
+		else {
+			try {
+				return loadFromDatasource( event, persister );
+			}
+			finally {
+				cache.loadCompleted( cacheKey );
+			}
+		}
+	}
+
 	/**
 	 * Performs the process of loading an entity from the configured
 	 * underlying datasource.
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+
+/**
+ * Performs the pure snapshot comparison part of the flush-time dirty-check
+ * for a large number of entities in parallel, before the entities are
+ * processed sequentially by the {@link org.hibernate.event.spi.FlushEntityEventListener}s.
+ * <p>
+ * Only entities which are dirty-checked by comparing their current state with
+ * their loaded state, and whose attributes are all immutable basic or embedded
+ * values, are considered, so that no association, proxy, or collection is ever
+ * touched by a worker thread. The results are handed to the listeners through
+ * the {@link FlushEntityEvent}, and the listener falls back to a regular
+ * dirty-check whenever they might be stale, in particular when the state of the
+ * entity was changed after the precomputation, for example by a flush-time
+ * callback of another entity. Since every attribute value is immutable, such a
+ * change always replaces an attribute value, and is detected by comparing the
+ * precomputed values with the current ones.
+ *
+ * @see org.hibernate.cfg.FlushSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(int size) {
+		propertyValues = new Object[size][];
+		dirtyProperties = new int[size][];
+	}
+
+	/**
+	 * Compute the dirty-check of the given entities in parallel, if the
+	 * number of entities exceeds the configured threshold.
+	 *
+	 * @return the results, or {@code null} if parallel dirty-checking is disabled
+	 */
+	static @Nullable ParallelDirtyCheck compute(@Nonnull ManagedEntity[] entities, @Nonnull EventSource session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckThreshold();
+		if ( threshold <= 0 || entities.length < threshold ) {
+			return null;
+		}
+		else {
+			final var result = new ParallelDirtyCheck( entities.length );
+			final boolean[] candidates = candidates( entities );
+			IntStream.range( 0, entities.length ).parallel().forEach( index -> {
+				if ( candidates[index] ) {
+					result.dirtyCheck( index, entities[index], session );
+				}
+			} );
+			return result;
+		}
+	}
+
+	/**
+	 * Hand the precomputed result for the entity at the given index to the event.
+	 */
+	void applyTo(int index, @Nonnull FlushEntityEvent event) {
+		final Object[] values = propertyValues[index];
+		if ( values != null ) {
+			event.setPrecomputedDirtyCheck( values, dirtyProperties[index] );
+		}
+	}
+
+	private void dirtyCheck(int index, @Nonnull ManagedEntity managedEntity, @Nonnull EventSource session) {
+		final var entry = managedEntity.$$_hibernate_getEntityEntry();
+		final var persister = entry.getPersister();
+		final Object entity = managedEntity.$$_hibernate_getEntityInstance();
+		final Object[] values = persister.getValues( entity );
+		dirtyProperties[index] = persister.findDirty( values, entry.getLoadedState(), entity, session );
+		propertyValues[index] = values;
+	}
+
+	/**
+	 * Determine, sequentially, which entities may be safely dirty-checked
+	 * by a worker thread.
+	 */
+	private static @Nonnull boolean[] candidates(@Nonnull ManagedEntity[] entities) {
+		final boolean[] candidates = new boolean[entities.length];
+		final Map<EntityPersister, Boolean> basicStatePersisters = new IdentityHashMap<>();
+		for ( int i = 0; i < entities.length; i++ ) {
+			final var managedEntity = entities[i];
+			final EntityEntry entry = managedEntity.$$_hibernate_getEntityEntry();
+			if ( entry != null
+					&& entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& entry.isModifiableEntity()
+					// enhanced entities have their own, cheaper, dirty tracking
+					&& !isPersistentAttributeInterceptable( managedEntity.$$_hibernate_getEntityInstance() ) ) {
+				candidates[i] = basicStatePersisters.computeIfAbsent( entry.getPersister(),
+						ParallelDirtyCheck::hasOnlyBasicState );
+			}
+		}
+		return candidates;
+	}
+
+	private static boolean hasOnlyBasicState(@Nonnull EntityPersister persister) {
+		return persister.isMutable()
+			&& !persister.hasCollections()
+			&& hasOnlyBasicState( persister.getPropertyTypes() );
+	}
+
+	private static boolean hasOnlyBasicState(@Nonnull Type[] types) {
+		for ( var type : types ) {
+			if ( type.isAssociationType() || type.isCollectionType()
+					// a value modified in place could not be told apart from the precomputed value
+					|| type.isMutable()
+					|| type instanceof CompositeType compositeType
+							&& !hasOnlyBasicState( compositeType.getSubtypes() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
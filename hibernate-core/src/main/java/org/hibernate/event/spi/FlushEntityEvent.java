@@ -21,6 +21,8 @@ public class FlushEntityEvent extends AbstractSessionEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
 
@@ -86,6 +88,39 @@ public void setPropertyValues(@Nullable Object[] propertyValues) {
 		this.propertyValues = propertyValues;
 	}
 
+	/**
+	 * The current state of the entity, if it was already extracted and
+	 * dirty-checked against the loaded state before this event was fired.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * The result of the dirty-check against the loaded state, if
+	 * {@linkplain #hasPrecomputedDirtyCheck() already computed}.
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	public boolean hasPrecomputedDirtyCheck() {
+		return precomputedPropertyValues != null;
+	}
+
+	public void setPrecomputedDirtyCheck(@Nullable Object[] propertyValues, @Nullable int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
 	@Nonnull
 	public Object getEntity() {
 		return entity;
@@ -114,6 +149,8 @@ public void resetAndReuseEventInstance(@Nonnull Object entity, @Nonnull EntityEn
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
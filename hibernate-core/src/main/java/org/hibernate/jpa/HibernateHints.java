@@ -323,6 +323,27 @@ public interface HibernateHints {
 	@Incubating
 	String HINT_LIMIT_IN_MEMORY = "org.hibernate.limitInMemory";
 
+	/**
+	 * Hint specifying that entities returned by a
+	 * {@linkplain org.hibernate.query.SelectionQuery#stream() stream}
+	 * should be evicted from the persistence context once the stream
+	 * has advanced past them, so that streaming a very large number of
+	 * results does not exhaust the heap. The value is the number of most
+	 * recent results whose entities are kept in the persistence context,
+	 * and must be at least one. A larger window is useful when the
+	 * stream consumer needs earlier results, for example, to navigate
+	 * to previously returned entities or their fetched collections.
+	 * <p>
+	 * Entities are evicted with {@link org.hibernate.Session#detach},
+	 * so any unflushed modification to an evicted entity is lost.
+	 *
+	 * @see org.hibernate.query.spi.QueryOptions#getStreamEvictionWindow
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String HINT_STREAM_EVICTION_WINDOW = "org.hibernate.streamEvictionWindow";
+
 	/**
 	 * Hint to enable or disable the query plan caching.
 	 * <p>
@@ -70,6 +70,13 @@ public int getKeyJdbcCount() {
 		return keyJdbcCount;
 	}
 
+	/**
+	 * The maximum number of keys to collect for the next batch.
+	 */
+	int getKeyBatchSize() {
+		return getDomainBatchSize();
+	}
+
 	abstract void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContractImplementor session);
 
 	private CollectionKey collectionKey(Object key, SharedSessionContractImplementor session) {
@@ -121,7 +128,7 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 
 	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getKeyBatchSize();
 		final Object[] keysToInitialize = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableCollectionKeys(
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The batch size of a batch loader passing its keys as a SQL array,
+ * adapted at runtime to the number of keys which are found waiting
+ * in the {@link org.hibernate.engine.spi.BatchFetchQueue}, and to the
+ * time taken by each batch.
+ * <p>
+ * Updates are not synchronized, since a lost update merely delays
+ * the adaptation.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+ *
+ * @since 8.0
+ */
+final class AdaptiveBatchSize {
+	private final int minimum;
+	private final int maximum;
+	private final long targetNanos;
+
+	private volatile int current;
+
+	AdaptiveBatchSize(int minimum, int maximum, long targetNanos) {
+		this.minimum = minimum;
+		this.maximum = maximum;
+		this.targetNanos = targetNanos;
+		this.current = minimum;
+	}
+
+	/**
+	 * An {@code AdaptiveBatchSize} starting at the given configured batch size,
+	 * or {@code null} if adaptive batch sizing is disabled.
+	 */
+	static @Nullable AdaptiveBatchSize create(int domainBatchSize, SessionFactoryImplementor factory) {
+		final var options = factory.getSessionFactoryOptions();
+		final int maximum = options.getAdaptiveBatchFetchMaxSize();
+		return maximum > domainBatchSize
+				? new AdaptiveBatchSize( domainBatchSize, maximum,
+						TimeUnit.MILLISECONDS.toNanos( options.getAdaptiveBatchFetchTargetTime() ) )
+				: null;
+	}
+
+	/**
+	 * The number of keys to collect for the next batch.
+	 */
+	int getBatchSize() {
+		return current;
+	}
+
+	/**
+	 * Record the execution of a batch.
+	 *
+	 * @param keyCount The number of keys which were collected for the batch
+	 * @param batchSize The batch size in effect when the keys were collected
+	 * @param elapsedNanos The time taken by the batch
+	 */
+	void record(int keyCount, int batchSize, long elapsedNanos) {
+		if ( elapsedNanos > targetNanos ) {
+			current = Math.max( minimum, batchSize / 2 );
+		}
+		else if ( keyCount >= batchSize ) {
+			// there were at least as many keys waiting
+			// as we could fit, and probably more
+			current = (int) Math.min( maximum, 2L * batchSize );
+		}
+	}
+}
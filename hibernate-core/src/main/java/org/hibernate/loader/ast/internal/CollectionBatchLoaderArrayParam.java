@@ -4,7 +4,7 @@
  */
 package org.hibernate.loader.ast.internal;
 
-
+import jakarta.annotation.Nullable;
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionKey;
@@ -50,6 +50,7 @@
 	private final JdbcParameter jdbcParameter;
 	private final SelectStatement sqlSelect;
 	private final JdbcSelect jdbcSelectOperation;
+	private final @Nullable AdaptiveBatchSize adaptiveBatchSize;
 
 	public CollectionBatchLoaderArrayParam(
 			int domainBatchSize,
@@ -110,6 +111,13 @@ public CollectionBatchLoaderArrayParam(
 				.getSqlAstTranslatorFactory()
 				.buildSelectTranslator( getSessionFactory(), sqlSelect )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+
+		adaptiveBatchSize = AdaptiveBatchSize.create( domainBatchSize, sessionFactory );
+	}
+
+	@Override
+	int getKeyBatchSize() {
+		return adaptiveBatchSize == null ? getDomainBatchSize() : adaptiveBatchSize.getBatchSize();
 	}
 
 	@Override
@@ -135,7 +143,7 @@ private PersistentCollection<?> loadWithConversion(
 					collectionInfoString( getLoadable(), keyBeingLoaded ) );
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getKeyBatchSize();
 		final Object[] keysToInitialize = new Object[length];
 		final Object[] domainKeys = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
@@ -192,6 +200,8 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 				new JdbcParameterBindingImpl( arraySqlTypedMapping.getJdbcMapping(), keysToInitialize )
 		);
 
+		final int batchSize = getKeyBatchSize();
+		final long startNanos = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		session.getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelectOperation,
 				jdbcParameterBindings,
@@ -207,6 +217,9 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.record( keysToInitialize.length, batchSize, System.nanoTime() - startNanos );
+		}
 	}
 
 	@Override
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.pretty.MessageHelper.collectionInfoString;
+
+/**
+ * A {@link CollectionLoader} for applying a subselect fetch using the keys
+ * of the owners {@linkplain SubselectFetch#getResultingEntityKeys() loaded}
+ * by the original query, instead of its restriction. The keys are passed as
+ * a SQL array when the dialect supports it, or in chunks of {@code IN} lists
+ * otherwise.
+ * <p>
+ * Unlike {@link CollectionLoaderSubSelectFetch}, this loader does not depend
+ * on the original query, and may be reused for any {@link SubselectFetch}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_BY_KEY
+ *
+ * @since 8.0
+ */
+public class CollectionLoaderSubSelectFetchByKey implements CollectionLoader {
+	/**
+	 * The number of keys per {@code IN} list, when the keys cannot be
+	 * passed as a SQL array. A SQL array holds any number of keys.
+	 */
+	private static final int BATCH_SIZE = 64;
+
+	private final AbstractCollectionBatchLoader keysLoader;
+
+	public CollectionLoaderSubSelectFetchByKey(
+			PluralAttributeMapping attributeMapping,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		final var keyDescriptor = attributeMapping.getKeyDescriptor();
+		if ( !keyDescriptor.isEmbedded()
+				&& keyDescriptor.getKeyPart().getSingleJdbcMapping().getValueConverter() == null
+				&& supportsSqlArrayType( sessionFactory.getJdbcServices().getDialect() ) ) {
+			keysLoader = new CollectionBatchLoaderArrayParam(
+					BATCH_SIZE,
+					influencers,
+					attributeMapping,
+					sessionFactory
+			);
+		}
+		else {
+			keysLoader = new CollectionBatchLoaderInPredicate(
+					BATCH_SIZE,
+					influencers,
+					attributeMapping,
+					sessionFactory
+			);
+		}
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return keysLoader.getLoadable();
+	}
+
+	@Override
+	public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImplementor session) {
+		final var collectionDescriptor = getLoadable().getCollectionDescriptor();
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final var collection =
+				persistenceContext.getCollection( session.generateCollectionKey( collectionDescriptor, triggerKey ) );
+
+		final List<Object> keys = new ArrayList<>();
+		keys.add( triggerKey );
+		final var ownerEntry = persistenceContext.getEntry( collection.getOwner() );
+		if ( ownerEntry != null ) {
+			final var subselect = persistenceContext.getBatchFetchQueue().getSubselect( ownerEntry.getEntityKey() );
+			if ( subselect != null ) {
+				for ( var entityKey : subselect.getResultingEntityKeys() ) {
+					final Object key = entityKey.getIdentifier();
+					final var containedCollection =
+							persistenceContext.getCollection( session.generateCollectionKey( collectionDescriptor, key ) );
+					if ( containedCollection != null
+							&& containedCollection != collection
+							&& !containedCollection.wasInitialized() ) {
+						keys.add( key );
+					}
+				}
+			}
+		}
+
+		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.batchFetchingCollection( collectionInfoString( getLoadable(), triggerKey ) );
+		}
+
+		final Object[] keysToInitialize = keys.toArray();
+		keysLoader.initializeKeys( triggerKey, keysToInitialize, session );
+		keysLoader.finishInitializingKeys( keysToInitialize, session );
+		return collection;
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -46,7 +47,7 @@
 	private final JdbcParameter jdbcParameter;
 	private final SelectStatement sqlAst;
 	private final JdbcSelect jdbcSelectOperation;
-
+	private final @Nullable AdaptiveBatchSize adaptiveBatchSize;
 
 	/**
 	 * Instantiates the loader
@@ -104,6 +105,8 @@ public EntityBatchLoaderArrayParam(
 				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
 						.buildSelectTranslator( sessionFactory, sqlAst )
 						.translate( NO_BINDINGS, QueryOptions.NONE );
+
+		adaptiveBatchSize = AdaptiveBatchSize.create( domainBatchSize, sessionFactory );
 	}
 
 	@Override
@@ -114,15 +117,20 @@ public int getDomainBatchSize() {
 	@AllowReflection
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
-		final Object[] idsToLoad = new Object[domainBatchSize];
+		final int batchSize = getKeyBatchSize();
+		final Object[] idsToLoad = new Object[batchSize];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		return trimIdBatch( batchSize, idsToLoad );
+	}
+
+	private int getKeyBatchSize() {
+		return adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize.getBatchSize();
 	}
 
 	@Override
@@ -140,6 +148,8 @@ protected void initializeEntities(
 
 		removeBatchLoadableEntityKeys( idsToInitialize, session );
 
+		final int batchSize = getKeyBatchSize();
+		final long startNanos = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		loadByArrayParameter(
 				idsToInitialize,
 				sqlAst,
@@ -153,6 +163,9 @@ protected void initializeEntities(
 				readOnly,
 				session
 		);
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.record( idsToInitialize.length, batchSize, System.nanoTime() - startNanos );
+		}
 	}
 
 	private void removeBatchLoadableEntityKeys(Object[] idsToInitialize, SharedSessionContractImplementor session) {
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
+
+/**
+ * A load plan for loading the state of a group of lazy attributes
+ * for several instances of an entity at once, using a restriction
+ * of form {@code where id in (?,?,...)}.
+ * <p>
+ * Each row of the result holds the identifier of the entity instance,
+ * followed by the values of the attributes. Any unused parameter slots
+ * for a particular execution are set to {@code null}.
+ *
+ * @see SingleIdArrayLoadPlan
+ */
+public class LazyAttributeBatchLoadPlan {
+	private final EntityIdentifierMapping identifierMapping;
+	private final int batchSize;
+	private final JdbcParametersList jdbcParameters;
+	private final JdbcSelect jdbcSelect;
+
+	public LazyAttributeBatchLoadPlan(
+			EntityMappingType entityMappingType,
+			List<? extends ModelPart> partsToSelect,
+			int batchSize,
+			SessionFactoryImplementor sessionFactory) {
+		this.identifierMapping = entityMappingType.getIdentifierMapping();
+		this.batchSize = batchSize;
+
+		final List<ModelPart> parts = new ArrayList<>( partsToSelect.size() + 1 );
+		parts.add( identifierMapping );
+		parts.addAll( partsToSelect );
+
+		final var builder = JdbcParametersList.newBuilder( identifierMapping.getJdbcTypeCount() * batchSize );
+		final var sqlAst = LoaderSelectBuilder.createSelect(
+				entityMappingType,
+				parts,
+				identifierMapping,
+				null,
+				batchSize,
+				new LoadQueryInfluencers( sessionFactory ),
+				new LockOptions(),
+				builder::add,
+				new SqlAliasBaseManager(),
+				sessionFactory
+		);
+		jdbcParameters = builder.build();
+		jdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlAst )
+						.translate( NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	/**
+	 * The maximum number of identifiers accepted by {@link #load}.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Load the attribute values of the entity instances with the given identifiers.
+	 *
+	 * @return one array per row found, with the identifier in the first position
+	 */
+	public List<Object[]> load(Object[] ids, SharedSessionContractImplementor session) {
+		assert ids.length <= batchSize;
+		final var jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		int offset = 0;
+		for ( int i = 0; i < batchSize; i++ ) {
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					i < ids.length ? ids[i] : null,
+					offset,
+					identifierMapping,
+					jdbcParameters,
+					session
+			);
+		}
+		assert offset == jdbcParameters.size();
+		return session.getJdbcServices().getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new BaseExecutionContext( session ),
+				RowTransformerArrayImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.NONE,
+				ids.length
+		);
+	}
+}
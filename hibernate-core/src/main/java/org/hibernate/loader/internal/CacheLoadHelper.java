@@ -4,6 +4,9 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -12,6 +15,7 @@
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.GraphCacheEntryImpl;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -20,6 +24,8 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.type.Type;
@@ -293,6 +299,8 @@ else if ( oldHolder != null && oldHolder.getEntity() != null ) {
 					|| persistentAttributeInterceptor instanceof EnhancementAsProxyLazinessInterceptor ) {
 				persister.getBytecodeEnhancementMetadata()
 						.injectInterceptor( entity, entityId, source );
+				persistenceContext.getBatchFetchQueue()
+						.addLazyAttributeBatchLoadableEntityKey( entityKey, subclassPersister );
 			}
 		}
 
@@ -306,10 +314,12 @@ else if ( oldHolder != null && oldHolder.getEntity() != null ) {
 			final var lazyInitializer = extractLazyInitializer( proxy );
 			assert lazyInitializer != null;
 			lazyInitializer.setImplementation( entity );
-			isReadOnly = lazyInitializer.isReadOnly();
+			isReadOnly = lazyInitializer.isReadOnly() || !subclassPersister.isMutable();
 		}
 		else {
-			isReadOnly = source.isDefaultReadOnly();
+			// an immutable entity is always read-only, just as when
+			// it's loaded from the database by EntityInitializerImpl
+			isReadOnly = source.isDefaultReadOnly() || !subclassPersister.isMutable();
 		}
 		holder.setEntityEntry(
 				persistenceContext.addEntry(
@@ -325,6 +335,12 @@ else if ( oldHolder != null && oldHolder.getEntity() != null ) {
 				)
 		);
 
+		if ( entry instanceof GraphCacheEntryImpl graphCacheEntry ) {
+			// so that the references to the embedded entities are
+			// resolved without reading their own cache entries
+			assembleEmbeddedEntities( graphCacheEntry, persister, source );
+		}
+
 		final Type[] types = subclassPersister.getPropertyTypes();
 		// initializes the entity by (desired) side effect
 		final var standardCacheEntry = (StandardCacheEntryImpl) entry;
@@ -335,7 +351,11 @@ else if ( oldHolder != null && oldHolder.getEntity() != null ) {
 				source.getInterceptor(),
 				source
 		);
-		if ( standardCacheEntry.isDeepCopyNeeded() ) {
+		// a read-only entity never keeps a snapshot of its loaded
+		// state, so there's no need to copy the state shared with
+		// the cache entry (a snapshot is taken if it's ever made
+		// modifiable via setReadOnly(false))
+		if ( !isReadOnly && standardCacheEntry.isDeepCopyNeeded() ) {
 			TypeHelper.deepCopy(
 					values,
 					types,
@@ -364,6 +384,62 @@ else if ( oldHolder != null && oldHolder.getEntity() != null ) {
 		return entity;
 	}
 
+	/**
+	 * Assemble the entities embedded in the given cache entry, unless they are
+	 * already initialized in the persistence context. Each assembled entity
+	 * counts as a hit in the region of the entry, and is post-loaded just like
+	 * an entity read from its own cache entry.
+	 */
+	private static void assembleEmbeddedEntities(
+			GraphCacheEntryImpl graphCacheEntry,
+			EntityPersister persister,
+			SharedSessionContractImplementor source) {
+		final var factory = source.getFactory();
+		final var mappingMetamodel = factory.getMappingMetamodel();
+		final var persistenceContext = source.getPersistenceContextInternal();
+		final var statistics = factory.getStatistics();
+		final var embeddedEntities = graphCacheEntry.getEmbeddedEntities();
+		final List<EntityKey> assembledKeys = new ArrayList<>( embeddedEntities.length );
+		for ( var embeddedEntity : embeddedEntities ) {
+			final var embeddedEntry = embeddedEntity.entry();
+			final var embeddedPersister = mappingMetamodel.getEntityDescriptor( embeddedEntry.getSubclass() );
+			final Object embeddedId =
+					embeddedPersister.getIdentifierType().assemble( embeddedEntity.id(), source, null );
+			final var embeddedKey = source.generateEntityKey( embeddedId, embeddedPersister );
+			final var holder = persistenceContext.getEntityHolder( embeddedKey );
+			if ( !persistenceContext.containsDeletedUnloadedEntityKey( embeddedKey )
+					&& ( holder == null || holder.getEntity() == null || !holder.isInitialized() ) ) {
+				convertCacheEntryToEntity(
+						embeddedEntry,
+						embeddedId,
+						source,
+						embeddedPersister,
+						null,
+						embeddedKey
+				);
+				assembledKeys.add( embeddedKey );
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.entityCacheHit(
+							getRootEntityRole( embeddedPersister ),
+							persister.getCacheAccessStrategy().getRegion().getName()
+					);
+				}
+			}
+		}
+		if ( source.isEventSource() && !assembledKeys.isEmpty() ) {
+			final var listenerGroup = factory.getEventListenerGroups().eventListenerGroup_POST_LOAD;
+			final var postLoadEvent = new PostLoadEvent( source.asEventSource() );
+			for ( var assembledKey : assembledKeys ) {
+				final Object entity = persistenceContext.getEntity( assembledKey );
+				postLoadEvent.reset();
+				postLoadEvent.setEntity( entity )
+						.setId( assembledKey.getIdentifier() )
+						.setPersister( persistenceContext.getEntry( entity ).getPersister() );
+				listenerGroup.fireEventOnEachListener( postLoadEvent, PostLoadEventListener::onPostLoad );
+			}
+		}
+	}
+
 	/**
 	 * Try to initialize a collection from the cache
 	 *
@@ -45,6 +45,7 @@
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
+import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetchByKey;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
@@ -127,6 +128,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
@@ -166,6 +168,8 @@
 	private final CollectionTableMapping tableMapping;
 
 	private String sqlSelectSizeString;
+	// by padded key count
+	private final Map<Integer, String> sqlSelectSizesStrings = new ConcurrentHashMap<>();
 	private String sqlDetectRowByIndexString;
 	private String sqlDetectRowByElementString;
 
@@ -241,6 +245,7 @@
 	private final Comparator<?> comparator;
 
 	private CollectionLoader collectionLoader;
+	private CollectionLoader subSelectByKeyLoader;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -644,6 +649,7 @@ private String getWhere(
 
 	private void buildStaticWhereFragmentSensitiveSql() {
 		sqlSelectSizeString = generateSelectSizeString( hasIndex() && !isMap() );
+		sqlSelectSizesStrings.clear();
 		sqlDetectRowByIndexString = generateDetectRowByIndexString();
 		sqlDetectRowByElementString = generateDetectRowByElementString();
 	}
@@ -721,6 +727,9 @@ public void postInstantiate() throws MappingException {
 						// We pass null as metamodel because we did the initialization during construction already
 						? createNamedQueryCollectionLoader( this, getNamedQueryMemento( null ) )
 						: createCollectionLoader( new LoadQueryInfluencers( factory ) );
+		if ( !hasNamedQueryLoader() && factory.getSessionFactoryOptions().isSubselectFetchByKeyEnabled() ) {
+			subSelectByKeyLoader = createSubSelectByKeyLoader( new LoadQueryInfluencers( factory ) );
+		}
 
 		if ( attributeMapping.getIndexDescriptor() != null ) {
 			collectionElementLoaderByIndex =
@@ -841,11 +850,27 @@ private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContrac
 			// Remove keys of any entities that have been evicted
 			subselect.getResultingEntityKeys()
 					.removeIf( entityKey -> !persistenceContext.containsEntity( entityKey ) );
-			// Run a subquery loader
-			return createSubSelectLoader( subselect, session );
+			if ( subSelectByKeyLoader != null ) {
+				// Load by the keys of the owners
+				final var influencers = session.getLoadQueryInfluencers();
+				return attributeMapping.isAffectedByInfluencers( influencers, true )
+						? createSubSelectByKeyLoader( influencers )
+						: subSelectByKeyLoader;
+			}
+			else {
+				// Run a subquery loader
+				return createSubSelectLoader( subselect, session );
+			}
 		}
 	}
 
+	/**
+	 * For Hibernate Reactive
+	 */
+	protected CollectionLoader createSubSelectByKeyLoader(LoadQueryInfluencers loadQueryInfluencers) {
+		return new CollectionLoaderSubSelectFetchByKey( attributeMapping, loadQueryInfluencers, factory );
+	}
+
 	protected CollectionLoader createSubSelectLoader(SubselectFetch subselect, SharedSessionContractImplementor session) {
 		return new CollectionLoaderSubSelectFetch( attributeMapping, null, subselect, session );
 	}
@@ -1045,6 +1070,25 @@ protected String generateSelectSizeString(boolean isIntegerIndexed) {
 				.toStatementString();
 	}
 
+	/**
+	 * A query for the sizes of several collections with a single key column,
+	 * returning the key and size of each collection which has rows.
+	 */
+	protected String generateSelectSizesString(boolean isIntegerIndexed, int keyCount) {
+		final String keyColumnName = getKeyColumnNames()[0];
+		final String selectValue = isIntegerIndexed
+				? "max(" + getIndexColumnNames()[0] + ") + 1"  // lists, arrays
+				: "count(" + getElementColumnNames()[0] + ")"; // sets, maps, bags
+		return new SimpleSelect( getFactory() )
+				.setTableName( getTableName() )
+				.addInListRestriction( keyColumnName, keyCount )
+				.addWhereToken( sqlWhereString )
+				.addColumn( keyColumnName )
+				.addColumn( selectValue )
+				.setGroupBy( keyColumnName )
+				.toStatementString();
+	}
+
 	protected String generateDetectRowByIndexString() {
 		if ( !hasIndex() ) {
 			return null;
@@ -1446,6 +1490,74 @@ public int getSize(Object key, SharedSessionContractImplementor session) {
 		}
 	}
 
+	/**
+	 * Pad the number of keys to a power of two, so that only a few distinct
+	 * statements are used, but never beyond the limit of the dialect on the
+	 * number of elements of an {@code in} list.
+	 */
+	private int paddedKeyCount(int keyCount) {
+		final int powerOfTwo = Integer.highestOneBit( keyCount - 1 ) << 1;
+		final int limit = dialect.getInExpressionCountLimit();
+		return limit > 0 ? Math.max( keyCount, Math.min( powerOfTwo, limit ) ) : powerOfTwo;
+	}
+
+	@Override
+	public int[] getSizes(Object[] keys, SharedSessionContractImplementor session) {
+		final var keyPart = attributeMapping.getKeyDescriptor().getKeyPart();
+		if ( keys.length == 1
+				|| keyColumnNames.length != 1
+				|| keyFormulas[0] != null
+				|| keyPart.getSingleJdbcMapping().getValueConverter() != null
+				// the keys are matched to the rows by equals() and hashCode()
+				|| keyPart.getJavaType().getJavaTypeClass().isArray() ) {
+			return CollectionPersister.super.getSizes( keys, session );
+		}
+		final var jdbcMapping = keyPart.getSingleJdbcMapping();
+		final int paddedKeyCount = paddedKeyCount( keys.length );
+		final String sql = sqlSelectSizesStrings.computeIfAbsent( paddedKeyCount,
+				keyCount -> generateSelectSizesString( hasIndex() && !isMap(), keyCount ) );
+		try {
+			final var jdbcCoordinator = session.getJdbcCoordinator();
+			final var statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			final var resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			try {
+				for ( int i = 0; i < paddedKeyCount; i++ ) {
+					// repeat the last key as padding
+					getKeyType().nullSafeSet( statement, keys[Math.min( i, keys.length - 1 )], i + 1, session );
+				}
+				final var resultSet = jdbcCoordinator.getResultSetReturn().extract( statement, sql );
+				try {
+					final Map<Object, Integer> sizesByKey = new HashMap<>( keys.length );
+					while ( resultSet.next() ) {
+						sizesByKey.put( jdbcMapping.getJdbcValueExtractor().extract( resultSet, 1, session ),
+								resultSet.getInt( 2 ) - baseIndex() );
+					}
+					// collections with no rows are absent from the result
+					final int[] sizes = new int[keys.length];
+					for ( int i = 0; i < keys.length; i++ ) {
+						sizes[i] = sizesByKey.getOrDefault( keys[i], 0 );
+					}
+					return sizes;
+				}
+				finally {
+					resourceRegistry.release( resultSet, statement );
+				}
+			}
+			finally {
+				resourceRegistry.release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw getSQLExceptionHelper().convert(
+					sqle,
+					"could not retrieve collection sizes: " +
+							collectionInfoString( this, keys[0], getFactory() ),
+					sql
+			);
+		}
+	}
+
 	@Override
 	public boolean indexExists(Object key, Object index, SharedSessionContractImplementor session) {
 		return exists( key, incrementIndexByBase( index ), getIndexType(), sqlDetectRowByIndexString, session );
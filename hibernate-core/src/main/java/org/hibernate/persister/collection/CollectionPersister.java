@@ -379,6 +379,22 @@ default boolean isExtraLazy() {
 		return false;
 	}
 	int getSize(Object key, SharedSessionContractImplementor session);
+
+	/**
+	 * The sizes of the collections with the given keys, read from the database.
+	 *
+	 * @return the sizes, in the order of the given keys
+	 *
+	 * @since 8.0
+	 */
+	default int[] getSizes(Object[] keys, SharedSessionContractImplementor session) {
+		final int[] sizes = new int[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			sizes[i] = getSize( keys[i], session );
+		}
+		return sizes;
+	}
+
 	boolean indexExists(Object key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Object key, Object element, SharedSessionContractImplementor session);
 	Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner);
@@ -36,6 +36,7 @@
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.GraphCacheEntryImpl;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -73,6 +74,7 @@
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.internal.EntityConcreteTypeLoader;
+import org.hibernate.loader.ast.internal.LazyAttributeBatchLoadPlan;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.internal.MultiIdEntityLoaderArrayParam;
@@ -287,6 +289,7 @@
 import static org.hibernate.internal.util.collections.CollectionHelper.toSmallList;
 import static org.hibernate.jdbc.Expectations.createExpectation;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 import static org.hibernate.metamodel.RepresentationMode.POJO;
 import static org.hibernate.metamodel.mapping.EntityDiscriminatorMapping.DISCRIMINATOR_ROLE_NAME;
 import static org.hibernate.metamodel.mapping.internal.GeneratedValuesProcessor.getGeneratedAttributes;
@@ -459,6 +462,8 @@
 
 	private List<UniqueKeyEntry> uniqueKeyEntries = null; //lazily initialized
 	private ConcurrentHashMap<String,SingleIdArrayLoadPlan> nonLazyPropertyLoadPlansByName;
+	private final ConcurrentHashMap<String,LazyAttributeBatchLoadPlan> lazyBatchLoadPlansByFetchGroup =
+			new ConcurrentHashMap<>();
 
 	public AbstractEntityPersister(
 			final PersistentClass persistentClass,
@@ -1237,9 +1242,12 @@ protected CacheEntryHelper buildCacheEntryHelper(SessionFactoryOptions options)
 		else if ( canUseReferenceCacheEntries() ) {
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
+			return options.isCacheEmbedImmutableAssociationsEnabled()
+					? new GraphCacheEntryHelper( this )
 					: new StandardCacheEntryHelper( this );
 		}
 	}
@@ -1734,6 +1742,19 @@ private Object initLazyProperties(
 				lazyAttributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup );
 		final var lazySelectLoadPlan = getSQLLazySelectLoadPlan( fetchGroup );
 		try {
+			final int batchSize = factory.getSessionFactoryOptions().isLazyAttributeBatchFetchEnabled()
+					? session.getLoadQueryInfluencers().effectiveBatchSize( this )
+					: 1;
+			if ( batchSize > 1 ) {
+				final Object batchResult =
+						initLazyPropertiesInBatch( entity, id, fieldName, fetchGroup,
+								fetchGroupAttributeDescriptors, batchSize, session );
+				if ( batchResult != UNFETCHED_PROPERTY ) {
+					CORE_LOGGER.doneInitializingLazyProperties();
+					return batchResult;
+				}
+				// otherwise there were no other instances to batch with
+			}
 			Object finalResult = null;
 			final var results = lazySelectLoadPlan.load( id, session );
 			final var initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
@@ -1776,6 +1797,90 @@ private Object initLazyProperties(
 		}
 	}
 
+	/**
+	 * Initialize the given fetch group of the given entity, along with the same
+	 * fetch group of other instances of this entity queued by the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue} when they were loaded, up
+	 * to the given batch size, just as {@link org.hibernate.annotations.BatchSize}
+	 * does for proxies.
+	 *
+	 * @return the value of the requested attribute, or {@link #UNFETCHED_PROPERTY}
+	 *         if there was no other instance with an uninitialized fetch group
+	 */
+	private Object initLazyPropertiesInBatch(
+			Object entity,
+			Object id,
+			String fieldName,
+			String fetchGroup,
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityKey, Object> entitiesByKey =
+				persistenceContext.getBatchFetchQueue()
+						.getLazyAttributeBatch( this, session.generateEntityKey( id, this ), entity, fieldName, batchSize );
+		if ( entitiesByKey.size() == 1 ) {
+			return UNFETCHED_PROPERTY;
+		}
+		else {
+			final Object[] ids = new Object[entitiesByKey.size()];
+			int position = 0;
+			for ( var entityKey : entitiesByKey.keySet() ) {
+				ids[position++] = entityKey.getIdentifier();
+			}
+			if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.entityIdsToInitialize( infoString( this, id, getFactory() ), ids );
+			}
+			Object finalResult = null;
+			for ( Object[] row : getLazyBatchLoadPlan( fetchGroup, batchSize ).load( ids, session ) ) {
+				final Object instance = entitiesByKey.get( session.generateEntityKey( row[0], this ) );
+				if ( instance != null ) {
+					final var entry = persistenceContext.getEntry( instance );
+					final var interceptor = asPersistentAttributeInterceptable( instance ).$$_hibernate_getInterceptor();
+					final var initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+					int i = 1;
+					for ( var fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+						final String attributeName = fetchGroupAttributeDescriptor.getName();
+						if ( instance == entity && fieldName.equals( attributeName ) ) {
+							finalResult = row[i];
+						}
+						// if the attribute has already been initialized (e.g. by a write) we don't want to overwrite
+						if ( !initializedLazyAttributeNames.contains( attributeName ) ) {
+							initializeLazyProperty(
+									instance,
+									entry,
+									row[i],
+									getPropertyIndex( attributeName ),
+									fetchGroupAttributeDescriptor.getType()
+							);
+							interceptor.attributeInitialized( attributeName );
+						}
+						i++;
+					}
+				}
+			}
+			return finalResult;
+		}
+	}
+
+	private LazyAttributeBatchLoadPlan getLazyBatchLoadPlan(String fetchGroup, int batchSize) {
+		final var existing = lazyBatchLoadPlansByFetchGroup.get( fetchGroup );
+		if ( existing != null && existing.getBatchSize() == batchSize ) {
+			return existing;
+		}
+		else {
+			// the batch size only varies if it's overridden for a session
+			final var attributesMetadata = getBytecodeEnhancementMetadata().getLazyAttributesMetadata();
+			final List<ModelPart> partsToSelect = new ArrayList<>();
+			for ( var descriptor : attributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup ) ) {
+				partsToSelect.add( getAttributeMapping( getSubclassPropertyIndex( descriptor.getName() ) ) );
+			}
+			final var plan = new LazyAttributeBatchLoadPlan( this, partsToSelect, batchSize, factory );
+			lazyBatchLoadPlansByFetchGroup.put( fetchGroup, plan );
+			return plan;
+		}
+	}
+
 	private Object initLazyProperty(
 			Object entity,
 			Object id,
@@ -5279,6 +5384,26 @@ public CacheEntry buildCacheEntry(
 		}
 	}
 
+	private record GraphCacheEntryHelper(EntityPersister persister)
+			implements CacheEntryHelper {
+
+		@Override
+		@Nonnull
+		public CacheEntryStructure getCacheEntryStructure() {
+			return UnstructuredCacheEntry.INSTANCE;
+		}
+
+		@Override
+		@Nonnull
+		public CacheEntry buildCacheEntry(
+				@Nonnull Object entity,
+				@Nonnull Object[] state,
+				@Nullable Object version,
+				@Nonnull SharedSessionContractImplementor session) {
+			return new GraphCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private record ReferenceCacheEntryHelper(EntityPersister persister)
 			implements CacheEntryHelper {
 
@@ -6,6 +6,7 @@
 
 import org.hibernate.Incubating;
 import org.hibernate.Internal;
+import org.hibernate.query.internal.KeyedPageCursor;
 
 import java.util.List;
 
@@ -168,6 +169,39 @@ public KeyedPage<R> withKey(List<Comparable<?>> key, KeyInterpretation interpret
 		return new KeyedPage<>( keyDefinition, page, key, interpretation );
 	}
 
+	/**
+	 * An opaque, URL-safe string which identifies this page, including
+	 * its key, and which may be passed to {@link #forCursor} to obtain
+	 * this page again. A cursor allows a stateless service to hand out
+	 * a token for the next or previous page to its clients, and resume
+	 * pagination from it later. The key definition is not part of the
+	 * cursor.
+	 *
+	 * @throws IllegalArgumentException if the key contains a value of a
+	 *         type which cannot be encoded in a cursor
+	 *
+	 * @since 8.0
+	 */
+	public String getCursor() {
+		return KeyedPageCursor.encode( this );
+	}
+
+	/**
+	 * Obtain the page identified by the given {@linkplain #getCursor cursor}.
+	 *
+	 * @param keyDefinition the key definition of the page which produced the cursor
+	 * @param cursor a string obtained from {@link #getCursor()}
+	 *
+	 * @throws IllegalArgumentException if the cursor is malformed, or does
+	 *         not match the key definition, including a key value which
+	 *         is not of the type of the corresponding attribute
+	 *
+	 * @since 8.0
+	 */
+	public static <R> KeyedPage<R> forCursor(List<Order<? super R>> keyDefinition, String cursor) {
+		return KeyedPageCursor.decode( keyDefinition, cursor );
+	}
+
 	public enum KeyInterpretation {
 		KEY_OF_LAST_ON_PREVIOUS_PAGE,
 		KEY_OF_FIRST_ON_NEXT_PAGE,
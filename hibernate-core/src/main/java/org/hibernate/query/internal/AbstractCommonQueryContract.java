@@ -84,6 +84,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_DATABASE;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAM_EVICTION_WINDOW;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -380,6 +381,7 @@ protected void collectHints(Map<String, Object> hints) {
 		putIfNotNull( hints, HINT_CACHE_MODE, queryOptions.getCacheMode() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, queryOptions.getQueryPlanCachingEnabled() );
 		putIfNotNull( hints, HINT_LIMIT_IN_MEMORY, queryOptions.isLimitInMemoryEnabled() );
+		putIfNotNull( hints, HINT_STREAM_EVICTION_WINDOW, queryOptions.getStreamEvictionWindow() );
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, queryOptions.getCacheRetrieveMode() );
 		putIfNotNull( hints, HINT_JAVAEE_CACHE_RETRIEVE_MODE, queryOptions.getCacheRetrieveMode() );
@@ -530,6 +532,9 @@ protected final boolean applyHint(String hintName, Object value) {
 				case HINT_LIMIT_IN_MEMORY:
 					queryOptions.setLimitInMemory( getBoolean( value ) );
 					return true;
+				case HINT_STREAM_EVICTION_WINDOW:
+					applyStreamEvictionWindowHint( hintName, value );
+					return true;
 				case HINT_CACHEABLE:
 					if ( isHistorical() ) {
 						throw new IllegalStateException( "Query result set caching disallowed for historical query" );
@@ -619,6 +624,14 @@ protected void applyFetchSizeHint(String hintName, Object value) {
 		queryOptions.setFetchSize( getInteger( value ) );
 	}
 
+	protected void applyStreamEvictionWindowHint(String hintName, Object value) {
+		final Integer window = getInteger( value );
+		if ( window != null && window < 1 ) {
+			throw new IllegalArgumentException( "Hint '" + hintName + "' must be a positive integer" );
+		}
+		queryOptions.setStreamEvictionWindow( window );
+	}
+
 	protected void applyResultCachingHint(String hintName, Object value) {
 		queryOptions.setResultCachingEnabled( getBoolean( value ) );
 	}
@@ -24,6 +24,7 @@
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import jakarta.persistence.QueryFlushMode;
 import org.hibernate.query.IllegalQueryOperationException;
@@ -207,7 +208,12 @@ public Stream<T> stream() {
 	@Nonnull
 	public Stream<T> getResultStream() {
 		final var results = scroll( ScrollMode.FORWARD_ONLY );
-		final var spliterator = spliteratorUnknownSize( new ScrollableResultsIterator<>( results ), NONNULL );
+		final Integer evictionWindow = getQueryOptions().getStreamEvictionWindow();
+		final var iterator =
+				evictionWindow != null && getSession() instanceof SessionImplementor session
+						? new EvictingScrollableResultsIterator<>( results, session, evictionWindow )
+						: new ScrollableResultsIterator<>( results );
+		final var spliterator = spliteratorUnknownSize( iterator, NONNULL );
 		return StreamSupport.stream( spliterator, false ).onClose( results::close );
 	}
 
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+
+import static org.hibernate.Hibernate.isInitialized;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * A {@link ScrollableResultsIterator} which evicts the entities belonging
+ * to a result from the persistence context once the iteration has moved
+ * past a given number of more recent results, so that the persistence
+ * context does not grow with the number of results.
+ * <p>
+ * The entities belonging to a result are the entities it contains, along
+ * with the elements of their initialized collections and the targets of
+ * their initialized to-one associations, typically fetched along with them.
+ * Since an entity may belong to more than one result, the number of results
+ * retained in the window to which each entity belongs is counted, and an
+ * entity is only evicted once no retained result refers to it.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_EVICTION_WINDOW
+ *
+ * @since 8.0
+ */
+public class EvictingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SessionImplementor session;
+	private final int window;
+	private final ArrayDeque<Object[]> retained;
+	private final Map<Object, Integer> referenceCounts = new IdentityHashMap<>();
+
+	public EvictingScrollableResultsIterator(ScrollableResults<T> scrollableResults, SessionImplementor session, int window) {
+		super( scrollableResults );
+		this.session = session;
+		this.window = window;
+		this.retained = new ArrayDeque<>( window + 1 );
+	}
+
+	@Override
+	public T next() {
+		final T result = super.next();
+		if ( result != null ) {
+			final Object[] entities = entities( result );
+			for ( Object entity : entities ) {
+				referenceCounts.merge( entity, 1, Integer::sum );
+			}
+			retained.addLast( entities );
+		}
+		if ( retained.size() > window ) {
+			for ( Object entity : retained.removeFirst() ) {
+				final int count = referenceCounts.get( entity ) - 1;
+				if ( count == 0 ) {
+					referenceCounts.remove( entity );
+					evict( entity );
+				}
+				else {
+					referenceCounts.put( entity, count );
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The distinct managed entities belonging to the given result, determined
+	 * when the result enters the window, so that the same entities are released
+	 * when it leaves the window.
+	 */
+	private Object[] entities(Object result) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<Object> entities = Collections.newSetFromMap( new IdentityHashMap<>() );
+		if ( result instanceof Object[] tuple ) {
+			for ( Object element : tuple ) {
+				addEntity( element, entities, persistenceContext );
+			}
+		}
+		else {
+			addEntity( result, entities, persistenceContext );
+		}
+		return entities.toArray();
+	}
+
+	private static void addEntity(Object value, Set<Object> entities, PersistenceContext persistenceContext) {
+		if ( value != null ) {
+			final var entry = persistenceContext.getEntry( value );
+			if ( entry != null && entities.add( value ) ) {
+				final var persister = entry.getPersister();
+				final var types = persister.getPropertyTypes();
+				for ( int i = 0; i < types.length; i++ ) {
+					if ( types[i] instanceof EntityType ) {
+						final Object target = unproxy( persister.getValue( value, i ) );
+						if ( target != null && persistenceContext.isEntryFor( target ) ) {
+							entities.add( target );
+						}
+					}
+					else if ( types[i] instanceof CollectionType collectionType ) {
+						final Object collection = persister.getValue( value, i );
+						if ( collection instanceof PersistentCollection<?> persistentCollection
+								&& persistentCollection.wasInitialized() ) {
+							final var elements = collectionType.getElementsIterator( collection );
+							while ( elements.hasNext() ) {
+								final Object element = elements.next();
+								if ( element != null && persistenceContext.isEntryFor( element ) ) {
+									entities.add( element );
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static Object unproxy(Object value) {
+		if ( value == null || !isInitialized( value ) ) {
+			return null;
+		}
+		else {
+			final var lazyInitializer = extractLazyInitializer( value );
+			return lazyInitializer == null ? value : lazyInitializer.getImplementation();
+		}
+	}
+
+	private void evict(Object entity) {
+		// an entity may have already been evicted by cascade
+		if ( session.getPersistenceContextInternal().isEntryFor( entity ) ) {
+			session.detach( entity );
+		}
+	}
+}
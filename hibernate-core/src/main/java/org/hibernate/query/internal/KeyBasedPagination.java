@@ -4,11 +4,13 @@
  */
 package org.hibernate.query.internal;
 
+import jakarta.annotation.Nullable;
 import jakarta.persistence.criteria.Expression;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Order;
 import org.hibernate.query.SortDirection;
 import org.hibernate.query.criteria.JpaCompoundSelection;
+import org.hibernate.query.criteria.JpaParameterExpression;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.sqm.spi.NodeBuilder;
 import org.hibernate.query.sqm.tree.spi.domain.SqmPath;
@@ -27,13 +29,29 @@
 
 /**
  * Manipulation of SQM query tree for key-based pagination.
+ * <p>
+ * The values of the key are not embedded in the query tree, but
+ * are bound to unnamed parameters, which cannot clash with the
+ * parameters of the query, so that the query tree for every page
+ * after the first is the same, and so its interpretation may be
+ * cached.
  *
  * @author Gavin King
  */
 public class KeyBasedPagination {
 
+	/**
+	 * Restrict the given statement to the results following the
+	 * key, if {@code keyParameters} is not null, and select the key
+	 * along with the result.
+	 *
+	 * @param keyParameters receives the parameters to which the
+	 * values of the key must be bound, in the order of the key
+	 * definition
+	 */
 	public static <R> SqmSelectStatement<KeyedResult<R>> paginate(
-			List<Order<? super R>> keyDefinition, List<Comparable<?>> keyValues,
+			List<Order<? super R>> keyDefinition,
+			@Nullable List<JpaParameterExpression<?>> keyParameters,
 			SqmSelectStatement<KeyedResult<R>> statement, NodeBuilder builder) {
 		final SqmQuerySpec<?> querySpec = statement.getQuerySpec();
 		final List<? extends JpaSelection<?>> items = querySpec.getSelectClause().getSelectionItems();
@@ -55,8 +73,8 @@ public static <R> SqmSelectStatement<KeyedResult<R>> paginate(
 			statement.orderBy( keyDefinition.stream().map( order -> sortSpecification( statement, order ) )
 					.collect( toList() ) );
 			statement.select( keySelection( keyDefinition, root, selected, builder ) );
-			if ( keyValues != null ) {
-				final SqmPredicate restriction = keyRestriction( keyDefinition, keyValues, root, builder );
+			if ( keyParameters != null ) {
+				final SqmPredicate restriction = keyRestriction( keyDefinition, keyParameters, root, builder );
 				final SqmPredicate queryWhere = querySpec.getRestriction();
 				statement.where( queryWhere == null ? restriction : builder.and( queryWhere, restriction ) );
 			}
@@ -70,21 +88,23 @@ public static <R> SqmSelectStatement<KeyedResult<R>> paginate(
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private static <R> SqmPredicate keyRestriction(
 			List<Order<? super R>> keyDefinition,
-			List<Comparable<?>> keyValues,
+			List<JpaParameterExpression<?>> keyParameters,
 			SqmFrom<?, ?> root,
 			NodeBuilder builder) {
 		final List<SqmPath<?>> keyPaths = new ArrayList<>();
 		for ( Order<? super R> key : keyDefinition ) {
-			keyPaths.add( root.get( key.attributeName() ) );
+			final SqmPath<?> keyPath = root.get( key.attributeName() );
+			keyPaths.add( keyPath );
+			keyParameters.add( builder.parameter( keyPath.getJavaType() ) );
 		}
 		SqmPredicate restriction = null;
 		for (int i = 0; i < keyDefinition.size(); i++ ) {
 			// ordering by an attribute of the returned entity
 			final SortDirection direction = keyDefinition.get(i).direction();
 			final SqmPath key = keyPaths.get(i);
-			final Comparable keyValue = keyValues.get(i);
+			final Expression keyParameter = keyParameters.get(i);
 			final List<SqmPath<?>> previousKeys = keyPaths.subList(0, i);
-			final SqmPredicate predicate = keyPredicate( key, keyValue, direction, previousKeys, keyValues, builder );
+			final SqmPredicate predicate = keyPredicate( key, keyParameter, direction, previousKeys, keyParameters, builder );
 			restriction = restriction == null ? predicate : builder.or( restriction, predicate );
 		}
 		return restriction;
@@ -119,16 +139,16 @@ private static <R> JpaCompoundSelection<KeyedResult<R>> keyedResultConstructor(
 
 	@SuppressWarnings("rawtypes")
 	private static <C extends Comparable<? super C>> SqmPredicate keyPredicate(
-			Expression<? extends C> key, C keyValue, SortDirection direction,
-			List<SqmPath<?>> previousKeys, List<Comparable<?>> keyValues,
+			Expression<? extends C> key, Expression<? extends C> keyParameter, SortDirection direction,
+			List<SqmPath<?>> previousKeys, List<? extends Expression<?>> keyParameters,
 			NodeBuilder builder) {
 		SqmPredicate predicate = switch ( direction ) {
-			case ASCENDING -> builder.greaterThan( key, keyValue );
-			case DESCENDING -> builder.lessThan( key, keyValue );
+			case ASCENDING -> builder.greaterThan( key, keyParameter );
+			case DESCENDING -> builder.lessThan( key, keyParameter );
 		};
 		for ( int i = 0; i < previousKeys.size(); i++ ) {
 			final SqmPath keyPath = previousKeys.get(i);
-			predicate = builder.and( predicate, keyPath.equalTo( keyValues.get(i) ) );
+			predicate = builder.and( predicate, keyPath.equalTo( keyParameters.get(i) ) );
 		}
 		return predicate;
 	}
@@ -0,0 +1,305 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hibernate.internal.util.PrimitiveHelper.boxedType;
+
+/**
+ * Encoding of a {@link KeyedPage} as an opaque URL-safe string.
+ * <p>
+ * The key definition is not encoded, and must be supplied when the
+ * cursor is decoded. Only key values of basic types with a lossless
+ * string representation, and of enum types, are supported. Decoding
+ * never instantiates any class named in the cursor, so a cursor
+ * received from a client may be decoded safely. Each decoded value
+ * must be of the Java type of the corresponding attribute of the
+ * key definition, when that type is known. The type of an enum value
+ * is always obtained from the key definition.
+ *
+ * @see KeyedPage#getCursor()
+ * @see KeyedPage#forCursor(List, String)
+ *
+ * @since 8.0
+ */
+public final class KeyedPageCursor {
+	private static final byte VERSION = 2;
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte BOOLEAN = 6;
+	private static final byte CHARACTER = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte FLOAT = 9;
+	private static final byte BIG_INTEGER = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte UUID_VALUE = 12;
+	private static final byte LOCAL_DATE = 13;
+	private static final byte LOCAL_TIME = 14;
+	private static final byte LOCAL_DATE_TIME = 15;
+	private static final byte INSTANT = 16;
+	private static final byte OFFSET_DATE_TIME = 17;
+	private static final byte ENUM = 18;
+
+	private KeyedPageCursor() {
+	}
+
+	public static String encode(KeyedPage<?> keyedPage) {
+		final var bytes = new ByteArrayOutputStream();
+		try ( var output = new DataOutputStream( bytes ) ) {
+			output.writeByte( VERSION );
+			output.writeInt( keyedPage.getPage().getSize() );
+			output.writeInt( keyedPage.getPage().getNumber() );
+			output.writeByte( keyedPage.getKeyInterpretation().ordinal() );
+			final List<Comparable<?>> key = keyedPage.getKey();
+			if ( key == null ) {
+				output.writeInt( -1 );
+			}
+			else {
+				output.writeInt( key.size() );
+				for ( Comparable<?> value : key ) {
+					writeValue( output, value );
+				}
+			}
+		}
+		catch (IOException e) {
+			// cannot happen with a ByteArrayOutputStream
+			throw new UncheckedIOException( e );
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString( bytes.toByteArray() );
+	}
+
+	public static <R> KeyedPage<R> decode(List<Order<? super R>> keyDefinition, String cursor) {
+		try ( var input = new DataInputStream( new ByteArrayInputStream( Base64.getUrlDecoder().decode( cursor ) ) ) ) {
+			if ( input.readByte() != VERSION ) {
+				throw new IllegalArgumentException( "Unsupported cursor version" );
+			}
+			final int size = input.readInt();
+			final int number = input.readInt();
+			final var interpretations = KeyedPage.KeyInterpretation.values();
+			final int interpretation = input.readByte();
+			if ( interpretation < 0 || interpretation >= interpretations.length ) {
+				throw new IllegalArgumentException( "Malformed cursor" );
+			}
+			final int keySize = input.readInt();
+			final List<Comparable<?>> key;
+			if ( keySize < 0 ) {
+				key = null;
+			}
+			else if ( keySize != keyDefinition.size() ) {
+				throw new IllegalArgumentException( "Cursor does not match the key definition" );
+			}
+			else {
+				key = new ArrayList<>( keySize );
+				for ( int i = 0; i < keySize; i++ ) {
+					key.add( readValue( input, keyType( keyDefinition.get( i ) ) ) );
+				}
+			}
+			if ( input.read() >= 0 ) {
+				throw new IllegalArgumentException( "Malformed cursor" );
+			}
+			final KeyedPage<R> keyedPage = Page.page( size, number ).keyedBy( keyDefinition );
+			return key == null ? keyedPage : keyedPage.withKey( key, interpretations[interpretation] );
+		}
+		catch (IOException | NumberFormatException | DateTimeParseException e) {
+			throw new IllegalArgumentException( "Malformed cursor", e );
+		}
+	}
+
+	private static void writeValue(DataOutputStream output, Comparable<?> value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else {
+			final byte tag = tag( value );
+			output.writeByte( tag );
+			// unlike writeUTF(), not limited to 64KB
+			final byte[] bytes = ( tag == ENUM ? ( (Enum<?>) value ).name() : value.toString() )
+					.getBytes( StandardCharsets.UTF_8 );
+			output.writeInt( bytes.length );
+			output.write( bytes );
+		}
+	}
+
+	private static byte tag(Comparable<?> value) {
+		if ( value instanceof String ) {
+			return STRING;
+		}
+		else if ( value instanceof Integer ) {
+			return INTEGER;
+		}
+		else if ( value instanceof Long ) {
+			return LONG;
+		}
+		else if ( value instanceof Short ) {
+			return SHORT;
+		}
+		else if ( value instanceof Byte ) {
+			return BYTE;
+		}
+		else if ( value instanceof Boolean ) {
+			return BOOLEAN;
+		}
+		else if ( value instanceof Character ) {
+			return CHARACTER;
+		}
+		else if ( value instanceof Double ) {
+			return DOUBLE;
+		}
+		else if ( value instanceof Float ) {
+			return FLOAT;
+		}
+		else if ( value instanceof BigInteger ) {
+			return BIG_INTEGER;
+		}
+		else if ( value instanceof BigDecimal ) {
+			return BIG_DECIMAL;
+		}
+		else if ( value instanceof UUID ) {
+			return UUID_VALUE;
+		}
+		else if ( value instanceof LocalDate ) {
+			return LOCAL_DATE;
+		}
+		else if ( value instanceof LocalTime ) {
+			return LOCAL_TIME;
+		}
+		else if ( value instanceof LocalDateTime ) {
+			return LOCAL_DATE_TIME;
+		}
+		else if ( value instanceof Instant ) {
+			return INSTANT;
+		}
+		else if ( value instanceof OffsetDateTime ) {
+			return OFFSET_DATE_TIME;
+		}
+		else if ( value instanceof Enum<?> ) {
+			return ENUM;
+		}
+		else {
+			throw new IllegalArgumentException( "Key of type '" + value.getClass().getName()
+					+ "' cannot be encoded in a cursor" );
+		}
+	}
+
+	private static Comparable<?> readValue(DataInputStream input, @Nullable Class<?> keyType) throws IOException {
+		final byte tag = input.readByte();
+		if ( tag == NULL ) {
+			return null;
+		}
+		final int length = input.readInt();
+		if ( length < 0 || length > input.available() ) {
+			throw new IllegalArgumentException( "Malformed cursor" );
+		}
+		final byte[] bytes = new byte[length];
+		input.readFully( bytes );
+		final String string = new String( bytes, StandardCharsets.UTF_8 );
+		final Comparable<?> value = switch ( tag ) {
+			case STRING -> string;
+			case INTEGER -> Integer.valueOf( string );
+			case LONG -> Long.valueOf( string );
+			case SHORT -> Short.valueOf( string );
+			case BYTE -> Byte.valueOf( string );
+			case BOOLEAN -> Boolean.valueOf( string );
+			case CHARACTER -> {
+				if ( string.length() != 1 ) {
+					throw new IllegalArgumentException( "Malformed cursor" );
+				}
+				yield string.charAt( 0 );
+			}
+			case DOUBLE -> Double.valueOf( string );
+			case FLOAT -> Float.valueOf( string );
+			case BIG_INTEGER -> new BigInteger( string );
+			case BIG_DECIMAL -> new BigDecimal( string );
+			case UUID_VALUE -> UUID.fromString( string );
+			case LOCAL_DATE -> LocalDate.parse( string );
+			case LOCAL_TIME -> LocalTime.parse( string );
+			case LOCAL_DATE_TIME -> LocalDateTime.parse( string );
+			case INSTANT -> Instant.parse( string );
+			case OFFSET_DATE_TIME -> OffsetDateTime.parse( string );
+			case ENUM -> enumValue( keyType, string );
+			default -> throw new IllegalArgumentException( "Malformed cursor" );
+		};
+		if ( keyType != null && !boxedType( keyType ).isInstance( value ) ) {
+			throw new IllegalArgumentException( "Cursor does not match the key definition" );
+		}
+		return value;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Comparable<?> enumValue(@Nullable Class<?> keyType, String name) {
+		if ( keyType == null || !keyType.isEnum() ) {
+			// the enum type is never taken from the cursor
+			throw new IllegalArgumentException( "Cursor does not match the key definition" );
+		}
+		return Enum.valueOf( (Class<? extends Enum>) keyType, name );
+	}
+
+	/**
+	 * The Java type of the attribute of the given order, if it is known.
+	 */
+	private static @Nullable Class<?> keyType(Order<?> order) {
+		final var attribute = order.attribute();
+		if ( attribute != null ) {
+			return attribute.getJavaType();
+		}
+		else {
+			final Class<?> entityClass = order.entityClass();
+			final String attributeName = order.attributeName();
+			return entityClass == null || attributeName == null ? null : fieldType( entityClass, attributeName );
+		}
+	}
+
+	private static @Nullable Class<?> fieldType(Class<?> entityClass, String path) {
+		Class<?> type = entityClass;
+		for ( String name : path.split( "\\." ) ) {
+			type = declaredFieldType( type, name );
+			if ( type == null ) {
+				return null;
+			}
+		}
+		return type;
+	}
+
+	private static @Nullable Class<?> declaredFieldType(Class<?> type, String name) {
+		for ( Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass() ) {
+			for ( Field field : current.getDeclaredFields() ) {
+				if ( field.getName().equals( name ) ) {
+					return field.getType();
+				}
+			}
+		}
+		return null;
+	}
+}
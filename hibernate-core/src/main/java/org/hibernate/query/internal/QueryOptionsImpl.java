@@ -54,6 +54,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 
 	private Boolean queryPlanCachingEnabled;
 	private Boolean limitInMemoryEnabled;
+	private Integer streamEvictionWindow;
 
 	private final Limit limit;
 	private final LockOptions lockOptions;
@@ -89,6 +90,7 @@ public QueryOptionsImpl(@Nonnull QueryOptionsImpl original) {
 		this.refreshSession = original.refreshSession;
 		this.queryPlanCachingEnabled = original.queryPlanCachingEnabled;
 		this.limitInMemoryEnabled = original.limitInMemoryEnabled;
+		this.streamEvictionWindow = original.streamEvictionWindow;
 		this.limit = original.limit.makeCopy();
 		this.lockOptions = original.lockOptions.makeCopy();
 		this.tupleTransformer = original.tupleTransformer;
@@ -272,6 +274,12 @@ public Boolean isLimitInMemoryEnabled() {
 		return limitInMemoryEnabled;
 	}
 
+	@Override
+	@Nullable
+	public Integer getStreamEvictionWindow() {
+		return streamEvictionWindow;
+	}
+
 	@Override
 	public void setQueryPlanCachingEnabled(@Nullable Boolean queryPlanCachingEnabled) {
 		this.queryPlanCachingEnabled = queryPlanCachingEnabled;
@@ -304,6 +312,11 @@ public void setLimitInMemory(boolean limitInMemory) {
 		this.limitInMemoryEnabled = limitInMemory;
 	}
 
+	@Override
+	public void setStreamEvictionWindow(@Nullable Integer streamEvictionWindow) {
+		this.streamEvictionWindow = streamEvictionWindow;
+	}
+
 	@Override
 	public void setReadOnly(boolean readOnly) {
 		this.readOnlyEnabled = readOnly;
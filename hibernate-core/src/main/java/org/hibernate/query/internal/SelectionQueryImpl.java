@@ -45,6 +45,7 @@
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.criteria.JpaExpression;
+import org.hibernate.query.criteria.JpaParameterExpression;
 import org.hibernate.query.hql.internal.QuerySplitter;
 import org.hibernate.query.named.spi.NamedSqmQueryMemento;
 import org.hibernate.query.named.internal.CriteriaSelectionMementoImpl;
@@ -254,23 +255,21 @@ public <E> SelectionQueryImpl(@SuppressWarnings("rawtypes") SelectionQueryImpl o
 						? Order.reverse( keyDefinition )
 						: keyDefinition;
 
+		final List<JpaParameterExpression<?>> keyParameters = key == null ? null : new ArrayList<>( key.size() );
 		//noinspection unchecked
 		sqm = (SqmSelectStatement<R>) paginate(
 				appliedKeyDefinition,
-				key,
+				keyParameters,
 				// Change the query source to CRITERIA, because we will change the query and introduce parameters
 				(SqmSelectStatement<KeyedResult<E>>)
 						original.getSqmStatement()
 								.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) ),
 				original.getSqmStatement().nodeBuilder()
 		);
-		if ( getSession().isCriteriaPlanCacheEnabled() ) {
-			queryStringCacheKey = sqm.toHqlString();
-			setQueryPlanCacheable( true );
-		}
-		else {
-			queryStringCacheKey = sqm;
-		}
+		// The key is bound to unnamed parameters, so the query tree is compatible
+		// with the tree of every other page with the same key definition
+		queryStringCacheKey = sqm;
+		setQueryPlanCacheable( original.isQueryPlanCacheable() || getSession().isCriteriaPlanCacheEnabled() );
 		hql = CRITERIA_HQL_STRING;
 
 		domainParameterXref = DomainParameterXref.from( sqm );
@@ -286,6 +285,13 @@ public <E> SelectionQueryImpl(@SuppressWarnings("rawtypes") SelectionQueryImpl o
 		// Parameters might be created through HibernateCriteriaBuilder.value, which we need to bind here
 		bindValueBindCriteriaParameters( domainParameterXref, parameterBindings );
 
+		if ( keyParameters != null ) {
+			for ( int i = 0; i < keyParameters.size(); i++ ) {
+				//noinspection unchecked
+				setParameter( (Parameter<Object>) keyParameters.get( i ), key.get( i ) );
+			}
+		}
+
 		//noinspection unchecked
 		providedResultType = (Class<R>) KeyedResult.class;
 		actualResultType = QueryHelper.determineResultType( sqm, providedResultType );
@@ -0,0 +1,346 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.specification;
+
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.restriction.Restriction;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+/**
+ * A selection query split into several partitions, each restricted to a
+ * range of values of a key attribute of the root entity, whose results are
+ * obtained by executing the partitions concurrently, each in its own
+ * {@linkplain org.hibernate.StatelessSession stateless session}, and thus
+ * on its own JDBC connection.
+ * <pre>
+ * var partitioned =
+ *         PartitionedSelection.create(Book.class, "from Book where discontinued = false",
+ *                 Book_.id, PartitionedSelection.boundaries(minId, maxId, 8));
+ * try (var books = partitioned.stream(sessionFactory, executor)) {
+ *     books.forEach(exporter::export);
+ * }
+ * </pre>
+ * <p>
+ * The results of the partitions are merged in no particular order. Rows for
+ * which the key attribute is null do not belong to any partition. Since the
+ * partitions are executed in separate transactions, they might not observe a
+ * consistent snapshot of the database if it is concurrently modified.
+ *
+ * @param <T> The entity type returned by the query
+ *
+ * @since 8.0
+ */
+@Incubating
+public final class PartitionedSelection<T> {
+	private static final Object END_OF_PARTITION = new Object();
+
+	private final Class<T> entityType;
+	private final String hql;
+	private final List<Restriction<? super T>> partitions;
+	private int bufferSize = 1000;
+
+	private PartitionedSelection(Class<T> entityType, String hql, List<Restriction<? super T>> partitions) {
+		if ( partitions.isEmpty() ) {
+			throw new IllegalArgumentException( "At least one partition is required" );
+		}
+		this.entityType = entityType;
+		this.hql = hql;
+		this.partitions = partitions;
+	}
+
+	/**
+	 * Create a partitioned query with the given partitions, which should be
+	 * mutually exclusive.
+	 *
+	 * @param entityType The root entity type
+	 * @param hql The query, which must return the root entity
+	 * @param partitions The restrictions defining the partitions
+	 */
+	public static <T> PartitionedSelection<T> create(
+			@Nonnull Class<T> entityType,
+			@Nonnull String hql,
+			@Nonnull List<Restriction<? super T>> partitions) {
+		return new PartitionedSelection<>( entityType, hql, List.copyOf( partitions ) );
+	}
+
+	/**
+	 * Create a partitioned query with one partition more than the given
+	 * number of boundaries. The first partition contains every row with a
+	 * key less than the first boundary, and the last partition every row
+	 * with a key greater than or equal to the last boundary.
+	 *
+	 * @param entityType The root entity type
+	 * @param hql The query, which must return the root entity
+	 * @param key The key attribute of the root entity
+	 * @param boundaries The values of the key separating the partitions, in ascending order
+	 */
+	public static <T, K extends Comparable<K>> PartitionedSelection<T> create(
+			@Nonnull Class<T> entityType,
+			@Nonnull String hql,
+			@Nonnull SingularAttribute<? super T, K> key,
+			@Nonnull List<K> boundaries) {
+		// the restrictions apply to the root entity, of type T
+		@SuppressWarnings("unchecked")
+		final var attribute = (SingularAttribute<T, K>) key;
+		final int count = boundaries.size() + 1;
+		final List<Restriction<? super T>> partitions = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			if ( count == 1 ) {
+				partitions.add( Restriction.<T>unrestricted() );
+			}
+			else if ( i == 0 ) {
+				partitions.add( Restriction.lessThan( attribute, boundaries.get( 0 ) ) );
+			}
+			else if ( i == count - 1 ) {
+				partitions.add( Restriction.greaterThanOrEqual( attribute, boundaries.get( i - 1 ) ) );
+			}
+			else {
+				if ( boundaries.get( i - 1 ).compareTo( boundaries.get( i ) ) > 0 ) {
+					throw new IllegalArgumentException( "Partition boundaries must be in ascending order" );
+				}
+				partitions.add( Restriction.<T>all(
+						Restriction.greaterThanOrEqual( attribute, boundaries.get( i - 1 ) ),
+						Restriction.lessThan( attribute, boundaries.get( i ) )
+				) );
+			}
+		}
+		return new PartitionedSelection<>( entityType, hql, partitions );
+	}
+
+	/**
+	 * The boundaries splitting the given range of integer keys into
+	 * the given number of partitions of roughly equal width.
+	 *
+	 * @param min The smallest key, typically obtained using {@code min()}
+	 * @param max The largest key, typically obtained using {@code max()}
+	 * @param partitions The number of partitions
+	 */
+	public static List<Long> boundaries(long min, long max, int partitions) {
+		checkBoundaryArguments( min > max, partitions );
+		// the width of the range might not fit in a long
+		final var first = BigInteger.valueOf( min );
+		final var width = BigInteger.valueOf( max ).subtract( first ).add( BigInteger.ONE );
+		final var count = BigInteger.valueOf( partitions );
+		final List<Long> boundaries = new ArrayList<>( partitions - 1 );
+		for ( int i = 1; i < partitions; i++ ) {
+			boundaries.add( first.add( width.multiply( BigInteger.valueOf( i ) ).divide( count ) ).longValueExact() );
+		}
+		return boundaries;
+	}
+
+	/**
+	 * The boundaries splitting the given range of timestamp keys into
+	 * the given number of partitions of equal duration.
+	 *
+	 * @param min The earliest key, typically obtained using {@code min()}
+	 * @param max The latest key, typically obtained using {@code max()}
+	 * @param partitions The number of partitions
+	 */
+	public static List<Instant> boundaries(@Nonnull Instant min, @Nonnull Instant max, int partitions) {
+		checkBoundaryArguments( min.isAfter( max ), partitions );
+		final Duration width = Duration.between( min, max ).dividedBy( partitions );
+		final List<Instant> boundaries = new ArrayList<>( partitions - 1 );
+		for ( int i = 1; i < partitions; i++ ) {
+			boundaries.add( min.plus( width.multipliedBy( i ) ) );
+		}
+		return boundaries;
+	}
+
+	private static void checkBoundaryArguments(boolean reversed, int partitions) {
+		if ( partitions < 1 ) {
+			throw new IllegalArgumentException( "Number of partitions must be positive" );
+		}
+		if ( reversed ) {
+			throw new IllegalArgumentException( "Minimum key must not be greater than maximum key" );
+		}
+	}
+
+	/**
+	 * The restrictions defining the partitions.
+	 */
+	public List<Restriction<? super T>> getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * Set the maximum number of results fetched ahead of the consumer
+	 * of the {@linkplain #stream stream}. Once it is reached, execution
+	 * of the partitions is paused until the consumer catches up.
+	 */
+	public PartitionedSelection<T> setBufferSize(int bufferSize) {
+		if ( bufferSize < 1 ) {
+			throw new IllegalArgumentException( "Buffer size must be positive" );
+		}
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	/**
+	 * Execute the partitions concurrently, and return their merged results
+	 * as a {@link Stream}. The stream must be {@linkplain Stream#close closed}
+	 * when no longer needed, so that any partition still executing is stopped.
+	 * <p>
+	 * If the executor rejects a partition, the partitions already submitted
+	 * are stopped, and the {@link RejectedExecutionException} is rethrown.
+	 *
+	 * @param sessionFactory The factory used to open a stateless session for each partition
+	 * @param executor The executor running the partitions, ideally with one thread per partition
+	 */
+	public Stream<T> stream(@Nonnull SessionFactory sessionFactory, @Nonnull Executor executor) {
+		final var merger = new Merger<T>( partitions.size(), bufferSize );
+		for ( var partition : partitions ) {
+			try {
+				executor.execute( () -> execute( sessionFactory, partition, merger ) );
+			}
+			catch (RejectedExecutionException e) {
+				// partitions which have not started yet return immediately
+				merger.close();
+				throw e;
+			}
+		}
+		return StreamSupport.stream( spliteratorUnknownSize( merger, NONNULL ), false )
+				.onClose( merger::close );
+	}
+
+	private void execute(SessionFactory sessionFactory, Restriction<? super T> partition, Merger<T> merger) {
+		if ( merger.isClosed() ) {
+			return;
+		}
+		try ( var session = sessionFactory.openStatelessSession();
+				var results = SelectionSpecification.create( entityType, hql )
+						.restrict( partition )
+						.createQuery( session )
+						.stream() ) {
+			final var iterator = results.iterator();
+			while ( iterator.hasNext() && merger.offer( iterator.next() ) ) {
+				// keep going
+			}
+		}
+		catch (Throwable e) {
+			merger.fail( e );
+		}
+		finally {
+			merger.offer( END_OF_PARTITION );
+		}
+	}
+
+	private static class Merger<T> implements Iterator<T> {
+		private final BlockingQueue<Object> queue;
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+		private volatile boolean closed;
+		private int remainingPartitions;
+		private Object next;
+
+		private Merger(int partitions, int bufferSize) {
+			this.remainingPartitions = partitions;
+			this.queue = new ArrayBlockingQueue<>( bufferSize );
+		}
+
+		/**
+		 * Called by the partitions.
+		 *
+		 * @return {@code false} if the consumer closed the stream
+		 */
+		private boolean offer(Object result) {
+			try {
+				while ( !closed ) {
+					if ( queue.offer( result, 100, TimeUnit.MILLISECONDS ) ) {
+						return true;
+					}
+				}
+				return false;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		private void fail(Throwable exception) {
+			failure.compareAndSet( null, exception );
+		}
+
+		private boolean isClosed() {
+			return closed;
+		}
+
+		private void close() {
+			closed = true;
+			queue.clear();
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ( next == null ) {
+				final var exception = failure.get();
+				if ( exception != null ) {
+					close();
+					if ( exception instanceof RuntimeException runtimeException ) {
+						throw runtimeException;
+					}
+					else if ( exception instanceof Error error ) {
+						throw error;
+					}
+					else {
+						throw new HibernateException( "Execution of a partition of partitioned query failed", exception );
+					}
+				}
+				if ( remainingPartitions == 0 || closed ) {
+					return false;
+				}
+				final Object result;
+				try {
+					result = queue.take();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					close();
+					throw new HibernateException( "Interrupted while waiting for results of partitioned query", e );
+				}
+				if ( result == END_OF_PARTITION ) {
+					remainingPartitions--;
+				}
+				else {
+					next = result;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final Object result = next;
+			next = null;
+			return (T) result;
+		}
+	}
+}
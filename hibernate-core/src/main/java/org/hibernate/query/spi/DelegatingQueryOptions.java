@@ -98,6 +98,12 @@ public Boolean isLimitInMemoryEnabled() {
 		return queryOptions.isLimitInMemoryEnabled();
 	}
 
+	@Override
+	@Nullable
+	public Integer getStreamEvictionWindow() {
+		return queryOptions.getStreamEvictionWindow();
+	}
+
 	@Override
 	@Nullable
 	public CacheMode getCacheMode() {
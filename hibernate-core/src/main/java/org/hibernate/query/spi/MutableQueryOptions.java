@@ -75,6 +75,11 @@ default void setCacheMode(@Nullable CacheMode cacheMode) {
 	 */
 	void setLimitInMemory(boolean limitInMemory);
 
+	/**
+	 * Corollary to {@link #getStreamEvictionWindow()}
+	 */
+	void setStreamEvictionWindow(@Nullable Integer streamEvictionWindow);
+
 	/**
 	 * Corollary to {@link #getTimeout()}
 	 */
@@ -133,6 +133,22 @@ default Boolean isLimitInMemoryEnabled() {
 		return null;
 	}
 
+	/**
+	 * The number of most recent results of a {@linkplain org.hibernate.query.SelectionQuery#stream()
+	 * stream} whose entities are kept in the persistence context, entities belonging to older
+	 * results being evicted as the stream advances.
+	 *
+	 * @return the size of the window, or {@code null} if entities are never evicted
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_EVICTION_WINDOW
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	default Integer getStreamEvictionWindow() {
+		return null;
+	}
+
 	/**
 	 * The explicitly enabled profiles for this query.
 	 */
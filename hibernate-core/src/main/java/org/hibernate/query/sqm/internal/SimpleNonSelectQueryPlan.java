@@ -6,22 +6,33 @@
 
 import jakarta.annotation.Nullable;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.queue.internal.GraphBasedActionQueue;
+import org.hibernate.audit.ModificationType;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.spi.SqmTranslation;
 import org.hibernate.query.sqm.tree.spi.SqmDmlStatement;
+import org.hibernate.query.sqm.tree.spi.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.spi.insert.SqmInsertStatement;
 import org.hibernate.query.sqm.tree.spi.expression.SqmParameter;
+import org.hibernate.sql.ast.tree.AbstractUpdateOrDeleteStatement;
 import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import static org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter.omittingLockingAndPaging;
 import static org.hibernate.query.sqm.internal.SqmUtil.generateJdbcParamsXref;
@@ -34,7 +45,7 @@ public class SimpleNonSelectQueryPlan implements NonSelectQueryPlan {
 	private final SqmDmlStatement<?> statement;
 	private final DomainParameterXref domainParameterXref;
 
-	private volatile CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation;
+	private volatile CachedInterpretation interpretation;
 
 	public SimpleNonSelectQueryPlan(SqmDmlStatement<?> statement, DomainParameterXref domainParameterXref) {
 		this.statement = statement;
@@ -50,18 +61,31 @@ protected SqmDmlStatement<?> getStatement() {
 	public int executeUpdate(DomainQueryExecutionContext context) {
 		BulkOperationCleanupAction.schedule( context.getSession(), statement );
 		final var interpretation = getInterpretation( context );
+		final var executionContext = omittingLockingAndPaging( context );
+		final var auditTableMutations = interpretation.auditTableMutations;
+		if ( auditTableMutations != null ) {
+			// the audit rows are written from the rows as they are before the mutation
+			executeAuditTableMutations( auditTableMutations, interpretation.jdbcParameterBindings, executionContext );
+		}
 		return execute( interpretation.interpretation,
 				interpretation.jdbcParameterBindings,
-				omittingLockingAndPaging( context ) );
+				executionContext );
 	}
 
 	protected int execute(
 			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> sqmInterpretation,
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext) {
+		return execute( sqmInterpretation.jdbcOperation(), jdbcParameterBindings, executionContext );
+	}
+
+	private static int execute(
+			JdbcOperationQueryMutation jdbcOperation,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
 		final var session = executionContext.getSession();
 		return session.getFactory().getJdbcServices().getJdbcMutationExecutor().execute(
-				sqmInterpretation.jdbcOperation(),
+				jdbcOperation,
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -72,6 +96,40 @@ protected int execute(
 		);
 	}
 
+	private static void executeAuditTableMutations(
+			AuditTableMutations auditTableMutations,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		// the changes made through the session are audited first, and the bulk change merged into them
+		final boolean merge = writePendingAuditRows( auditTableMutations.entityDescriptor(), executionContext.getSession() );
+		for ( var mutation : auditTableMutations.mutations() ) {
+			execute( mutation, jdbcParameterBindings, executionContext );
+		}
+		if ( merge ) {
+			for ( var mutation : auditTableMutations.mergeMutations() ) {
+				execute( mutation, jdbcParameterBindings, executionContext );
+			}
+		}
+	}
+
+	/**
+	 * Write the pending audit rows of the entities of the mutated hierarchy, which
+	 * would otherwise be written at transaction completion.
+	 *
+	 * @return {@code true} if any audit row was written
+	 */
+	private static boolean writePendingAuditRows(
+			EntityPersister entityDescriptor,
+			SharedSessionContractImplementor session) {
+		final String rootEntityName = entityDescriptor.getRootEntityName();
+		final Predicate<EntityKey> inHierarchy =
+				entityKey -> rootEntityName.equals( entityKey.getPersister().getRootEntityName() );
+		return session.isEventSource()
+					&& session.asEventSource().getActionQueue() instanceof GraphBasedActionQueue graphBasedActionQueue
+				? graphBasedActionQueue.getAuditMutationCollector().executeEntityAuditMutations( inHierarchy, session )
+				: session.getAuditWorkQueue().writeEntityChanges( inHierarchy, session );
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(
 			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> sqmInterpretation,
 			DomainQueryExecutionContext executionContext) {
@@ -110,15 +168,15 @@ protected SqmTranslation<? extends MutationStatement> buildTranslation(
 	// For Hibernate Reactive
 	protected Interpretation getInterpretation(DomainQueryExecutionContext context) {
 		Interpretation builtInterpretation = null;
-		CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> localCopy = interpretation;
+		CachedInterpretation localCopy = interpretation;
 
 		if ( localCopy == null ) {
 			synchronized ( this ) {
 				localCopy = interpretation;
 				if ( localCopy == null ) {
 					builtInterpretation = buildInterpretation( statement, domainParameterXref, context );
-					localCopy = builtInterpretation.interpretation;
-					interpretation = builtInterpretation.interpretation;
+					localCopy = new CachedInterpretation( builtInterpretation );
+					interpretation = localCopy;
 				}
 				else {
 					builtInterpretation = updateInterpretation( localCopy, context );
@@ -130,40 +188,86 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		}
 
 		return builtInterpretation != null ? builtInterpretation
-				: new Interpretation( localCopy, createJdbcParameterBindings( localCopy, context ) );
+				: new Interpretation( localCopy.interpretation,
+						createJdbcParameterBindings( localCopy.interpretation, context ),
+						localCopy.auditTableMutations );
 	}
 
 	private @Nullable Interpretation updateInterpretation(
-			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> localCopy,
+			CachedInterpretation localCopy,
 			DomainQueryExecutionContext context) {
 		Interpretation builtInterpretation = null;
-		if ( localCopy.jdbcOperation().dependsOnParameterBindings() ) {
-			final var jdbcParameterBindings = createJdbcParameterBindings( localCopy, context );
+		final var sqmInterpretation = localCopy.interpretation;
+		if ( sqmInterpretation.jdbcOperation().dependsOnParameterBindings() ) {
+			final var jdbcParameterBindings = createJdbcParameterBindings( sqmInterpretation, context );
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcOperation()
+			if ( !sqmInterpretation.jdbcOperation()
 					.isCompatibleWith( jdbcParameterBindings, context.getQueryOptions() ) ) {
+				// the audit table statements share the parameters of the mutation, and are rebuilt with it
 				builtInterpretation = buildInterpretation(
-						localCopy.statement(),
-						localCopy.jdbcParamsXref(),
-						localCopy.sqmParameterMappingModelTypes(),
+						sqmInterpretation.statement(),
+						sqmInterpretation.jdbcParamsXref(),
+						sqmInterpretation.sqmParameterMappingModelTypes(),
 						jdbcParameterBindings,
 						context
 				);
-				interpretation = builtInterpretation.interpretation;
+				interpretation = new CachedInterpretation( builtInterpretation );
 			}
 			else {
-				builtInterpretation = new Interpretation( localCopy, jdbcParameterBindings );
+				builtInterpretation = new Interpretation( sqmInterpretation, jdbcParameterBindings,
+						localCopy.auditTableMutations );
 			}
 		}
 		return builtInterpretation;
 	}
 
+	/**
+	 * @param auditTableMutations The statements writing the audit rows of an audited entity
+	 */
 	// For Hibernate Reactive
 	protected record Interpretation(
 			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation,
-			JdbcParameterBindings jdbcParameterBindings
-	) {}
+			JdbcParameterBindings jdbcParameterBindings,
+			@Nullable AuditTableMutations auditTableMutations
+	) {
+		public Interpretation(
+				CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation,
+				JdbcParameterBindings jdbcParameterBindings) {
+			this( interpretation, jdbcParameterBindings, null );
+		}
+	}
+
+	/**
+	 * The part of an {@link Interpretation} which does not depend on the parameter bindings.
+	 */
+	private record CachedInterpretation(
+			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation,
+			@Nullable AuditTableMutations auditTableMutations
+	) {
+		private CachedInterpretation(Interpretation interpretation) {
+			this( interpretation.interpretation, interpretation.auditTableMutations );
+		}
+	}
+
+	/**
+	 * The statements writing the audit rows of the rows affected by a bulk update or
+	 * delete of an {@linkplain org.hibernate.annotations.Audited audited} entity.
+	 *
+	 * @param entityDescriptor The mutated entity
+	 * @param mutations The statements writing the audit rows, executed before the mutation
+	 * @param mergeMutations The statements merging the bulk change into the audit rows
+	 *                       already written for the current changeset
+	 *
+	 * @see SqmMutationStrategyHelper#visitAuditTableMutations
+	 */
+	// For Hibernate Reactive
+	protected record AuditTableMutations(
+			EntityPersister entityDescriptor,
+			List<JdbcOperationQueryMutation> mutations,
+			List<JdbcOperationQueryMutation> mergeMutations
+	) {
+	}
 
 	protected Interpretation buildInterpretation(
 			SqmDmlStatement<?> sqm,
@@ -218,8 +322,43 @@ protected Interpretation buildInterpretation(
 						jdbcParamsXref,
 						parameterModelTypeResolutions
 				),
-				jdbcParameterBindings
+				jdbcParameterBindings,
+				buildAuditTableMutations( mutationStatement, jdbcParameterBindings, executionContext )
 		);
 	}
 
+	/**
+	 * The statements writing the audit rows of an
+	 * {@linkplain org.hibernate.annotations.Audited audited} entity
+	 * for a bulk update or delete.
+	 *
+	 * @see SqmMutationStrategyHelper#visitAuditTableMutations
+	 */
+	private @Nullable AuditTableMutations buildAuditTableMutations(
+			MutationStatement mutationStatement,
+			JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		if ( mutationStatement instanceof AbstractUpdateOrDeleteStatement updateOrDeleteStatement
+				&& !( statement instanceof SqmInsertStatement<?> ) ) {
+			final var entityDescriptor =
+					executionContext.getSession().getFactory().getMappingMetamodel()
+							.getEntityDescriptor( statement.getTarget().getModel().getHibernateEntityName() );
+			if ( entityDescriptor.getAuditMapping() != null ) {
+				final List<JdbcOperationQueryMutation> mutations = new ArrayList<>( 2 );
+				final List<JdbcOperationQueryMutation> mergeMutations = new ArrayList<>( 2 );
+				SqmMutationStrategyHelper.visitAuditTableMutations(
+						entityDescriptor,
+						updateOrDeleteStatement,
+						statement instanceof SqmDeleteStatement<?> ? ModificationType.DEL : ModificationType.MOD,
+						jdbcParameterBindings,
+						executionContext.getQueryOptions(),
+						mutations::add,
+						mergeMutations::add
+				);
+				return new AuditTableMutations( entityDescriptor, mutations, mergeMutations );
+			}
+		}
+		return null;
+	}
+
 }
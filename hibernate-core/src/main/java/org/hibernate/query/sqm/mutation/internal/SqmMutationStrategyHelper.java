@@ -5,11 +5,16 @@
 package org.hibernate.query.sqm.mutation.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
+import org.hibernate.audit.AuditException;
+import org.hibernate.audit.ModificationType;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.mapping.Any;
@@ -28,6 +33,7 @@
 import org.hibernate.metamodel.mapping.Association;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.AuditMapping;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.DiscriminatedAssociationModelPart;
 import org.hibernate.metamodel.mapping.EmbeddableMappingType;
@@ -46,22 +52,46 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.AbstractUpdateOrDeleteStatement;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcLiteral;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingSqlFragmentExpression;
+import org.hibernate.sql.ast.tree.expression.SqlTuple;
+import org.hibernate.sql.ast.tree.from.MutatingTableReferenceGroupWrapper;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
+import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
+import org.hibernate.sql.ast.tree.predicate.NullnessPredicate;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
+import org.hibernate.sql.exec.internal.TemporalJdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 /**
  * @author Steve Ebersole
  */
 public class SqmMutationStrategyHelper {
+	private static final String AUDIT_ALIAS = "to_audit_";
+	private static final String EXISTING_AUDIT_ALIAS = "audited_";
+
 	private SqmMutationStrategyHelper() {
 	}
 
@@ -217,6 +247,360 @@ private static void visitCollectionTableDeletes(
 		);
 	}
 
+	/**
+	 * Produce the statements writing the {@linkplain org.hibernate.annotations.Audited audit}
+	 * rows of the rows affected by the given single-table update or delete, which must be
+	 * executed before the statement itself. The audit rows are written by a set-based
+	 * {@code insert ... select} from the rows matching the restriction of the statement,
+	 * preceded, for the {@linkplain org.hibernate.audit.AuditStrategy#VALIDITY validity
+	 * strategy}, by an update ending the previous audit rows of the same rows.
+	 * <p>
+	 * For an update, the values assigned by the statement are selected in place of the
+	 * current column values, so that the audit rows record the state after the update.
+	 * <p>
+	 * Rows which already have an audit row for the current changeset, written for changes
+	 * made through the session, are skipped by the {@code insert}. The statements passed
+	 * to {@code mergeOperationConsumer} merge the bulk change into these audit rows, and
+	 * must be executed after the others when such audit rows exist:
+	 * <ul>
+	 *     <li>for an update, the assigned values are written to the audit rows,
+	 *     <li>for a delete, an audit row of an entity added in the changeset is deleted,
+	 *     and the modification type of the others is set to {@code DEL}.
+	 * </ul>
+	 */
+	public static void visitAuditTableMutations(
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement,
+			ModificationType modificationType,
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryOptions queryOptions,
+			Consumer<JdbcOperationQueryMutation> jdbcOperationConsumer,
+			Consumer<JdbcOperationQueryMutation> mergeOperationConsumer) {
+		final var auditMapping = entityDescriptor.getAuditMapping();
+		if ( auditMapping == null ) {
+			return;
+		}
+		final var factory = entityDescriptor.getFactory();
+		final var targetTable = statement.getTargetTable();
+		final String tableName = targetTable.getTableExpression();
+		final String auditTableName = auditMapping.resolveTableName( tableName );
+		final var sqlAstTranslatorFactory = factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+
+		final List<SelectableMapping> idColumns = new ArrayList<>();
+		entityDescriptor.getIdentifierMapping().forEachSelectable( (index, selectable) -> idColumns.add( selectable ) );
+		final var changesetIdMapping = auditMapping.getChangesetIdMapping( tableName );
+		final var modificationTypeMapping = auditMapping.getModificationTypeMapping( tableName );
+
+		final var invalidatingChangesetIdMapping = auditMapping.getInvalidatingChangesetIdMapping( tableName );
+		if ( invalidatingChangesetIdMapping != null ) {
+			final var auditTable = new NamedTableReference( auditTableName, AUDIT_ALIAS );
+			final var invalidatingChangesetId = new ColumnReference( auditTable, invalidatingChangesetIdMapping );
+			final var invalidation = new UpdateStatement(
+					auditTable,
+					singletonList( new Assignment(
+							invalidatingChangesetId,
+							changesetIdExpression( auditMapping, tableName, factory )
+					) ),
+					Predicate.combinePredicates(
+							new NullnessPredicate( invalidatingChangesetId ),
+							Predicate.combinePredicates(
+									// not the audit rows written for the current changeset
+									changesetIdPredicate( auditTable, auditMapping, tableName, ComparisonOperator.NOT_EQUAL, factory ),
+									matchingIdsPredicate( entityDescriptor, statement, auditTable, idColumns )
+							)
+					)
+			);
+			jdbcOperationConsumer.accept(
+					sqlAstTranslatorFactory.buildMutationTranslator( factory, invalidation )
+							.translate( jdbcParameterBindings, queryOptions )
+			);
+		}
+
+		final Map<String, SelectableMapping> auditedColumns = new LinkedHashMap<>();
+		for ( var idColumn : idColumns ) {
+			auditedColumns.put( idColumn.getSelectionExpression(), idColumn );
+		}
+		final var discriminatorMapping = entityDescriptor.getDiscriminatorMapping();
+		if ( discriminatorMapping != null && discriminatorMapping.hasPhysicalColumn()
+				&& tableName.equals( discriminatorMapping.getContainingTableExpression() ) ) {
+			auditedColumns.put( discriminatorMapping.getSelectionExpression(), discriminatorMapping );
+		}
+		collectAuditedColumns( entityDescriptor, tableName, auditedColumns );
+		for ( var subMappingType : entityDescriptor.getSubMappingTypes() ) {
+			// the rows of a single-table hierarchy may belong to subtypes
+			collectAuditedColumns( subMappingType.getEntityPersister(), tableName, auditedColumns );
+		}
+
+		final Map<String, Expression> assignedValues = new HashMap<>();
+		if ( modificationType == ModificationType.MOD && statement instanceof UpdateStatement updateStatement ) {
+			for ( var assignment : updateStatement.getAssignments() ) {
+				final var columnReferences = assignment.getAssignable().getColumnReferences();
+				final var assignedValue = assignment.getAssignedValue();
+				if ( columnReferences.size() == 1 ) {
+					assignedValues.put( columnReferences.get( 0 ).getColumnExpression(), assignedValue );
+				}
+				else if ( assignedValue instanceof SqlTuple tuple ) {
+					for ( int i = 0; i < columnReferences.size(); i++ ) {
+						assignedValues.put( columnReferences.get( i ).getColumnExpression(),
+								tuple.getExpressions().get( i ) );
+					}
+				}
+				else {
+					throw new AuditException( "Bulk update of audited entity '" + entityDescriptor.getEntityName()
+							+ "' assigns a tuple-valued expression, which cannot be recorded in the audit table" );
+				}
+			}
+		}
+
+		final var auditTable = new NamedTableReference( auditTableName, InsertSelectStatement.DEFAULT_ALIAS );
+		final var auditInsert = new InsertSelectStatement( auditTable, emptyList() );
+		final var auditRows = createAuditSource( entityDescriptor, statement, true );
+		final var selectClause = auditRows.getSelectClause();
+		for ( var column : auditedColumns.values() ) {
+			final String columnName = column.getSelectionExpression();
+			final var assignedValue = assignedValues.get( columnName );
+			auditInsert.addTargetColumnReference(
+					new ColumnReference( auditTable, columnName, false, null, column.getJdbcMapping() ) );
+			selectClause.addSqlSelection( new SqlSelectionImpl(
+					selectClause.getSqlSelections().size(),
+					assignedValue == null ? sourceColumn( targetTable, column ) : assignedValue
+			) );
+		}
+		auditInsert.addTargetColumnReference( new ColumnReference( auditTable, changesetIdMapping ) );
+		selectClause.addSqlSelection( new SqlSelectionImpl(
+				selectClause.getSqlSelections().size(),
+				changesetIdExpression( auditMapping, tableName, factory )
+		) );
+		if ( modificationTypeMapping != null ) {
+			auditInsert.addTargetColumnReference( new ColumnReference( auditTable, modificationTypeMapping ) );
+			selectClause.addSqlSelection( new SqlSelectionImpl(
+					selectClause.getSqlSelections().size(),
+					new JdbcLiteral<>( modificationType, modificationTypeMapping.getJdbcMapping() )
+			) );
+		}
+		// skip the rows already audited for the current changeset, they are merged below
+		final var existingAuditTable = new NamedTableReference( auditTableName, EXISTING_AUDIT_ALIAS );
+		final var existingAuditRow = new QuerySpec( false );
+		existingAuditRow.getFromClause().addRoot( new MutatingTableReferenceGroupWrapper(
+				new NavigablePath( auditTableName ),
+				entityDescriptor,
+				existingAuditTable
+		) );
+		existingAuditRow.getSelectClause().addSqlSelection(
+				new SqlSelectionImpl( 0, new ColumnReference( existingAuditTable, changesetIdMapping ) ) );
+		existingAuditRow.applyPredicate( changesetIdPredicate(
+				existingAuditTable, auditMapping, tableName, ComparisonOperator.EQUAL, factory ) );
+		for ( var idColumn : idColumns ) {
+			existingAuditRow.applyPredicate( new ComparisonPredicate(
+					new ColumnReference( existingAuditTable, idColumn ),
+					ComparisonOperator.EQUAL,
+					sourceColumn( targetTable, idColumn )
+			) );
+		}
+		auditRows.applyPredicate( new ExistsPredicate( existingAuditRow, true, booleanType( factory ) ) );
+		auditInsert.setSourceSelectStatement( auditRows );
+		jdbcOperationConsumer.accept(
+				sqlAstTranslatorFactory.buildMutationTranslator( factory, auditInsert )
+						.translate( jdbcParameterBindings, queryOptions )
+		);
+
+		visitAuditRowMerges(
+				entityDescriptor,
+				statement,
+				modificationType,
+				idColumns,
+				auditedColumns,
+				assignedValues,
+				new NamedTableReference( auditTableName, AUDIT_ALIAS ),
+				auditMapping,
+				tableName,
+				statementToMerge -> mergeOperationConsumer.accept(
+						sqlAstTranslatorFactory.buildMutationTranslator( factory, statementToMerge )
+								.translate( jdbcParameterBindings, queryOptions )
+				)
+		);
+	}
+
+	private static void visitAuditRowMerges(
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement,
+			ModificationType modificationType,
+			List<SelectableMapping> idColumns,
+			Map<String, SelectableMapping> auditedColumns,
+			Map<String, Expression> assignedValues,
+			NamedTableReference auditTable,
+			AuditMapping auditMapping,
+			String tableName,
+			Consumer<MutationStatement> statementConsumer) {
+		final var factory = entityDescriptor.getFactory();
+		if ( modificationType == ModificationType.MOD ) {
+			final List<Assignment> assignments = new ArrayList<>( assignedValues.size() );
+			for ( var column : auditedColumns.values() ) {
+				final var assignedValue = assignedValues.get( column.getSelectionExpression() );
+				if ( assignedValue != null ) {
+					// (select <assigned value> from <table> where <restriction> and <id> = <audit id>)
+					final var assignedValueSource = createAuditSource( entityDescriptor, statement, false );
+					assignedValueSource.getSelectClause().addSqlSelection( new SqlSelectionImpl( 0, assignedValue ) );
+					for ( var idColumn : idColumns ) {
+						assignedValueSource.applyPredicate( new ComparisonPredicate(
+								sourceColumn( statement.getTargetTable(), idColumn ),
+								ComparisonOperator.EQUAL,
+								new ColumnReference( auditTable, idColumn )
+						) );
+					}
+					assignments.add( new Assignment(
+							new ColumnReference( auditTable, column.getSelectionExpression(), false, null,
+									column.getJdbcMapping() ),
+							new SelectStatement( assignedValueSource )
+					) );
+				}
+			}
+			if ( !assignments.isEmpty() ) {
+				statementConsumer.accept( new UpdateStatement(
+						auditTable,
+						assignments,
+						currentAuditRowsPredicate( entityDescriptor, statement, auditTable, idColumns,
+								auditMapping, tableName )
+				) );
+			}
+		}
+		else {
+			final var modificationTypeMapping = auditMapping.getModificationTypeMapping( tableName );
+			if ( modificationTypeMapping != null ) {
+				final var modificationTypeColumn = new ColumnReference( auditTable, modificationTypeMapping );
+				// an entity added and deleted in the same changeset has no audit row
+				statementConsumer.accept( new DeleteStatement(
+						auditTable,
+						Predicate.combinePredicates(
+								new ComparisonPredicate(
+										modificationTypeColumn,
+										ComparisonOperator.EQUAL,
+										new JdbcLiteral<>( ModificationType.ADD, modificationTypeMapping.getJdbcMapping() )
+								),
+								currentAuditRowsPredicate( entityDescriptor, statement, auditTable, idColumns,
+										auditMapping, tableName )
+						)
+				) );
+				statementConsumer.accept( new UpdateStatement(
+						auditTable,
+						singletonList( new Assignment(
+								modificationTypeColumn,
+								new JdbcLiteral<>( ModificationType.DEL, modificationTypeMapping.getJdbcMapping() )
+						) ),
+						currentAuditRowsPredicate( entityDescriptor, statement, auditTable, idColumns,
+								auditMapping, tableName )
+				) );
+			}
+		}
+	}
+
+	/**
+	 * The audit rows of the current changeset for the rows matching the restriction of the statement.
+	 */
+	private static Predicate currentAuditRowsPredicate(
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement,
+			NamedTableReference auditTable,
+			List<SelectableMapping> idColumns,
+			AuditMapping auditMapping,
+			String tableName) {
+		return Predicate.combinePredicates(
+				changesetIdPredicate( auditTable, auditMapping, tableName, ComparisonOperator.EQUAL,
+						entityDescriptor.getFactory() ),
+				matchingIdsPredicate( entityDescriptor, statement, auditTable, idColumns )
+		);
+	}
+
+	/**
+	 * {@code <audit id> in (select <id> from <table> where <restriction>)}
+	 */
+	private static Predicate matchingIdsPredicate(
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement,
+			NamedTableReference auditTable,
+			List<SelectableMapping> idColumns) {
+		final var matchingIds = createAuditSource( entityDescriptor, statement, false );
+		final List<ColumnReference> auditIdColumns = new ArrayList<>( idColumns.size() );
+		for ( int i = 0; i < idColumns.size(); i++ ) {
+			final var idColumn = idColumns.get( i );
+			auditIdColumns.add( new ColumnReference( auditTable, idColumn ) );
+			matchingIds.getSelectClause()
+					.addSqlSelection( new SqlSelectionImpl( i, sourceColumn( statement.getTargetTable(), idColumn ) ) );
+		}
+		return new InSubQueryPredicate(
+				auditIdColumns.size() == 1
+						? auditIdColumns.get( 0 )
+						: new SqlTuple( auditIdColumns, entityDescriptor.getIdentifierMapping() ),
+				matchingIds,
+				false
+		);
+	}
+
+	private static Predicate changesetIdPredicate(
+			NamedTableReference auditTable,
+			AuditMapping auditMapping,
+			String tableName,
+			ComparisonOperator operator,
+			SessionFactoryImplementor factory) {
+		return new ComparisonPredicate(
+				new ColumnReference( auditTable, auditMapping.getChangesetIdMapping( tableName ) ),
+				operator,
+				changesetIdExpression( auditMapping, tableName, factory )
+		);
+	}
+
+	private static BasicType<Boolean> booleanType(SessionFactoryImplementor factory) {
+		return factory.getTypeConfiguration().getBasicTypeRegistry().resolve( StandardBasicTypes.BOOLEAN );
+	}
+
+	private static void collectAuditedColumns(
+			EntityPersister persister,
+			String tableName,
+			Map<String, SelectableMapping> auditedColumns) {
+		persister.forEachAttributeMapping( attributeMapping -> {
+			if ( !( attributeMapping instanceof PluralAttributeMapping )
+					&& !persister.isPropertyAuditedExcluded( attributeMapping.getStateArrayPosition() ) ) {
+				attributeMapping.forEachSelectable( (index, selectable) -> {
+					if ( selectable.isInsertable() && !selectable.isFormula()
+							&& tableName.equals( selectable.getContainingTableExpression() ) ) {
+						auditedColumns.putIfAbsent( selectable.getSelectionExpression(), selectable );
+					}
+				} );
+			}
+		} );
+	}
+
+	private static QuerySpec createAuditSource(
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement,
+			boolean isRoot) {
+		final var querySpec = new QuerySpec( isRoot );
+		querySpec.getFromClause().addRoot( new MutatingTableReferenceGroupWrapper(
+				new NavigablePath( entityDescriptor.getRootPathName() ),
+				entityDescriptor,
+				statement.getTargetTable()
+		) );
+		// joined tables of an 'update ... from'
+		statement.getFromClause().getRoots().forEach( querySpec.getFromClause()::addRoot );
+		querySpec.applyPredicate( statement.getRestriction() );
+		return querySpec;
+	}
+
+	private static ColumnReference sourceColumn(NamedTableReference table, SelectableMapping column) {
+		// the raw column value, without any custom read expression
+		return new ColumnReference( table, column.getSelectionExpression(), false, null, column.getJdbcMapping() );
+	}
+
+	private static Expression changesetIdExpression(
+			AuditMapping auditMapping,
+			String tableName,
+			SessionFactoryImplementor factory) {
+		final var dialect = factory.getJdbcServices().getDialect();
+		return factory.getChangesetCoordinator().useServerTimestamp( dialect )
+				? new SelfRenderingSqlFragmentExpression( dialect.currentTimestamp(), auditMapping.getJdbcMapping() )
+				: new TemporalJdbcParameter( auditMapping.getChangesetIdMapping( tableName ) );
+	}
+
 	/**
 	 * Returns the entity descriptors whose soft-delete tables need to be updated.
 	 * Only {@code TABLE_PER_CLASS} requires multiple targets (one per concrete
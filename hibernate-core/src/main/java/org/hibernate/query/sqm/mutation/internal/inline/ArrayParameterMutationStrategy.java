@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.mutation.internal.inline;
+
+import java.util.function.Function;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.query.sqm.tree.spi.SqmDeleteOrUpdateStatement;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+
+/**
+ * Support for multi-table SQM mutation operations which select the matching id values
+ * from the database back into the VM, and pass them to the mutation of each table as
+ * a single parameter of SQL array type.  No temporary table is needed, and the SQL of
+ * each mutation does not depend on the number of matching ids.
+ * <p>
+ * On a dialect which does not {@linkplain Dialect#useArrayForMultiValuedParameters use
+ * arrays for multivalued parameters}, this is equivalent to {@link InlineMutationStrategy}.
+ *
+ * @see ArrayParameterRestrictionProducer
+ *
+ * @since 8.0
+ */
+public class ArrayParameterMutationStrategy extends InlineMutationStrategy {
+	public static final String SHORT_NAME = "array";
+
+	public ArrayParameterMutationStrategy(Dialect dialect) {
+		super( determinePredicateProducer( dialect ) );
+	}
+
+	private static Function<SqmDeleteOrUpdateStatement<?>,MatchingIdRestrictionProducer> determinePredicateProducer(Dialect dialect) {
+		return supportsSqlArrayType( dialect )
+				? statement -> new ArrayParameterRestrictionProducer()
+				: statement -> new InPredicateRestrictionProducer();
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.mutation.internal.inline;
+
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.SelectableConsumer;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
+import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
+
+/**
+ * MatchingIdRestrictionProducer producing a restriction which passes all
+ * matching ids as a single parameter of SQL array type.  E.g.:
+ *
+ * ````
+ * delete
+ * from
+ *     entity-table
+ * where
+ *     id = any (?)
+ * ````
+ *
+ * The SQL is the same whatever the number of matching ids.  Composite ids,
+ * and ids with a converter, fall back to an in-values-list predicate.
+ *
+ * @see ArrayParameterMutationStrategy
+ *
+ * @since 8.0
+ */
+public class ArrayParameterRestrictionProducer implements MatchingIdRestrictionProducer {
+	private final InPredicateRestrictionProducer inPredicateRestrictionProducer = new InPredicateRestrictionProducer();
+
+	@Override
+	public List<Expression> produceIdExpressionList(List<Object> idsAndFks, EntityMappingType entityDescriptor) {
+		// the literals are still needed to insert rows into optional tables
+		return inPredicateRestrictionProducer.produceIdExpressionList( idsAndFks, entityDescriptor );
+	}
+
+	@Override
+	public Predicate produceRestriction(
+			List<Expression> idExpressions,
+			EntityMappingType entityDescriptor,
+			int valueIndex,
+			ModelPart valueModelPart,
+			TableReference mutatingTableReference,
+			Supplier<Consumer<SelectableConsumer>> columnsToMatchVisitationSupplier,
+			ExecutionContext executionContext) {
+		final @Nullable Object[] ids = valueIndex == 0 ? idArray( idExpressions, entityDescriptor ) : null;
+		if ( ids == null ) {
+			return inPredicateRestrictionProducer.produceRestriction(
+					idExpressions,
+					entityDescriptor,
+					valueIndex,
+					valueModelPart,
+					mutatingTableReference,
+					columnsToMatchVisitationSupplier,
+					executionContext
+			);
+		}
+		else {
+			final BasicValuedModelPart basicIdMapping =
+					(BasicValuedModelPart) entityDescriptor.getIdentifierMapping();
+			final JdbcMapping idJdbcMapping = basicIdMapping.getJdbcMapping();
+			final Expression testExpression = new ColumnReference(
+					mutatingTableReference,
+					basicIdMapping.getSelectionExpression(),
+					// id columns cannot be formulas and cannot have custom read and write expressions
+					false,
+					null,
+					idJdbcMapping
+			);
+			final JdbcMapping arrayJdbcMapping = resolveArrayJdbcMapping(
+					idJdbcMapping,
+					idJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass(),
+					executionContext.getSession().getFactory()
+			);
+			return new InArrayPredicate( testExpression, new IdArrayParameter( arrayJdbcMapping, ids ) );
+		}
+	}
+
+	/**
+	 * The matching ids as an array, or {@code null} if they
+	 * cannot be passed as a SQL array.
+	 */
+	private static @Nullable Object[] idArray(List<Expression> idExpressions, EntityMappingType entityDescriptor) {
+		if ( entityDescriptor.getIdentifierMapping() instanceof BasicValuedModelPart basicIdMapping
+				&& basicIdMapping.getJdbcMapping().getValueConverter() == null ) {
+			final Class<?> idClass = basicIdMapping.getJdbcMapping().getJavaTypeDescriptor().getJavaTypeClass();
+			final Object[] ids = (Object[]) Array.newInstance( idClass, idExpressions.size() );
+			for ( int i = 0; i < ids.length; i++ ) {
+				if ( idExpressions.get( i ) instanceof QueryLiteral<?> literal
+						&& idClass.isInstance( literal.getLiteralValue() ) ) {
+					ids[i] = literal.getLiteralValue();
+				}
+				else {
+					return null;
+				}
+			}
+			return ids;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * A parameter bound to the array of matching ids it carries, since the
+	 * multi-table handlers do not pass bindings for the mutation statements.
+	 */
+	private static class IdArrayParameter extends AbstractJdbcParameter {
+		private final Object[] ids;
+
+		private IdArrayParameter(JdbcMapping arrayJdbcMapping, Object[] ids) {
+			super( arrayJdbcMapping );
+			this.ids = ids;
+		}
+
+		@Override
+		public void bindParameterValue(
+				PreparedStatement statement,
+				int startPosition,
+				JdbcParameterBindings jdbcParamBindings,
+				ExecutionContext executionContext) throws SQLException {
+			bindParameterValue( getJdbcMapping(), statement, ids, startPosition, executionContext );
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql;
+
+import org.hibernate.Internal;
+
+/**
+ * A restriction matching a column against a list of parameters.
+ *
+ * @since 8.0
+ */
+@Internal
+public class InListRestriction implements Restriction {
+	private final String columnName;
+	private final int valueCount;
+
+	public InListRestriction(String columnName, int valueCount) {
+		this.columnName = columnName;
+		this.valueCount = valueCount;
+	}
+
+	@Override
+	public void render(StringBuilder sqlBuffer, RestrictionRenderingContext context) {
+		sqlBuffer.append( columnName ).append( " in (" );
+		for ( int i = 0; i < valueCount; i++ ) {
+			if ( i > 0 ) {
+				sqlBuffer.append( ',' );
+			}
+			sqlBuffer.append( context.makeParameterMarker() );
+		}
+		sqlBuffer.append( ')' );
+	}
+}
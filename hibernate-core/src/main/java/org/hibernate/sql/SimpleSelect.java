@@ -29,6 +29,7 @@
 public class SimpleSelect implements RestrictionRenderingContext {
 	protected String tableName;
 	protected String orderBy;
+	protected String groupBy;
 	protected String comment;
 
 	protected List<String> columns = new ArrayList<>();
@@ -144,6 +145,16 @@ public SimpleSelect addRestriction(String... columnNames) {
 		return this;
 	}
 
+	/**
+	 * Appends a restriction matching the {@code columnName} against {@code valueCount} parameters
+	 *
+	 * @see InListRestriction
+	 */
+	public SimpleSelect addInListRestriction(String columnName, int valueCount) {
+		restrictions.add( new InListRestriction( columnName, valueCount ) );
+		return this;
+	}
+
 	public SimpleSelect setLockOptions(LockOptions lockOptions) {
 		LockOptions.copy( lockOptions, this.lockOptions );
 		return this;
@@ -159,6 +170,11 @@ public SimpleSelect setOrderBy(String orderBy) {
 		return this;
 	}
 
+	public SimpleSelect setGroupBy(String groupBy) {
+		this.groupBy = groupBy;
+		return this;
+	}
+
 	public SimpleSelect setComment(String comment) {
 		this.comment = comment;
 		return this;
@@ -176,6 +192,7 @@ public String toStatementString() {
 		applySelectClause( buf );
 		applyFromClause( buf );
 		applyWhereClause( buf );
+		applyGroupBy( buf );
 		applyOrderBy( buf );
 
 		final String selectString = (lockOptions != null)
@@ -237,6 +254,12 @@ private void applyWhereClause(StringBuilder buf) {
 		}
 	}
 
+	private void applyGroupBy(StringBuilder buf) {
+		if ( groupBy != null ) {
+			buf.append( " group by " ).append( groupBy );
+		}
+	}
+
 	private void applyOrderBy(StringBuilder buf) {
 		if ( orderBy != null ) {
 			buf.append( ' ' ).append( orderBy );
@@ -8,6 +8,7 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.internal.lock.LoadedValuesCollectorFactory;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -39,6 +40,7 @@
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
 	private final boolean scrollExecution;
+	private final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
 
 	public JdbcOperationQuerySelect(
 			String sql,
@@ -128,6 +130,11 @@ public int getMaxRows() {
 		return null;
 	}
 
+	@Override
+	public AdaptiveFetchSize getAdaptiveFetchSize() {
+		return adaptiveFetchSize;
+	}
+
 	@Override
 	public void performPreActions(StatementAccess jdbcStatementAccess, Connection jdbcConnection, ExecutionContext executionContext) {
 	}
@@ -17,6 +17,7 @@
 import org.hibernate.sql.exec.internal.lock.CollectionLockingAction;
 import org.hibernate.sql.exec.internal.lock.FollowOnLockingAction;
 import org.hibernate.sql.exec.internal.lock.LoadedValuesCollectorFactory;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuery;
@@ -104,6 +105,11 @@ public int getMaxRows() {
 		return loadedValuesCollectorFactory;
 	}
 
+	@Override
+	public AdaptiveFetchSize getAdaptiveFetchSize() {
+		return primaryOperation.getAdaptiveFetchSize();
+	}
+
 	@Override
 	public void performPreActions(StatementAccess jdbcStatementAccess, Connection jdbcConnection, ExecutionContext executionContext) {
 		if ( preActions == null ) {
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.exec.spi;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.Incubating;
+
+/**
+ * Learns a JDBC fetch size for a {@link JdbcSelect} from the number of rows
+ * read by its previous executions.
+ * <p>
+ * The expected number of rows grows immediately when an execution reads more
+ * rows than expected, and shrinks gradually otherwise, so that an occasional
+ * small result does not undo what was learned from large scans. Updates are
+ * not synchronized, since a lost update merely delays the adaptation.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_LIMIT
+ *
+ * @since 8.0
+ */
+@Incubating
+public final class AdaptiveFetchSize {
+	/**
+	 * The smallest fetch size recommended, avoiding a round trip per row
+	 * for queries which usually return no row, or a single row.
+	 */
+	public static final int MINIMUM_FETCH_SIZE = 10;
+
+	private volatile int expectedRowCount = -1;
+	private volatile int columnCount;
+
+	/**
+	 * The recommended fetch size, or {@code null} if nothing has been learned yet.
+	 *
+	 * @param limit The maximum number of column values fetched in a single round trip
+	 */
+	public @Nullable Integer getFetchSize(int limit) {
+		final int rowCount = expectedRowCount;
+		if ( rowCount < 0 ) {
+			return null;
+		}
+		else {
+			final int maximum = Math.max( limit / Math.max( columnCount, 1 ), 1 );
+			// one more row than expected, so that the end of the
+			// results is detected without another round trip
+			return rowCount < maximum
+					? Math.min( Math.max( rowCount + 1, MINIMUM_FETCH_SIZE ), maximum )
+					: maximum;
+		}
+	}
+
+	/**
+	 * Record the number of rows read by an execution.
+	 *
+	 * @param rowCount The number of rows which were read
+	 * @param columnCount The number of columns of the result set
+	 */
+	public void record(int rowCount, int columnCount) {
+		this.columnCount = columnCount;
+		final int expected = expectedRowCount;
+		expectedRowCount = expected < rowCount
+				? rowCount
+				: expected - ( expected - rowCount ) / 4;
+	}
+}
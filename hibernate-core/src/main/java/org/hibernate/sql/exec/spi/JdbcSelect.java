@@ -34,6 +34,20 @@ public interface JdbcSelect extends PrimaryOperation, CacheableJdbcOperation {
 	@Nullable
 	LoadedValuesCollectorFactory getLoadedValuesCollectorFactory();
 
+	/**
+	 * The fetch size learned from previous executions of this operation,
+	 * which lives as long as the operation is cached.
+	 * May be {@code null} if the fetch size cannot be learned.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_LIMIT
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	default AdaptiveFetchSize getAdaptiveFetchSize() {
+		return null;
+	}
+
 	/**
 	 * Perform any pre-actions.
 	 * <p>
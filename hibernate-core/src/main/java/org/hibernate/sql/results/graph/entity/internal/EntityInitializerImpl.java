@@ -1716,6 +1716,8 @@ protected void initializeEntityInstance(EntityInitializerData data) {
 				// BytecodeLazyAttributeInterceptor#isAttributeLoaded(String fieldName) would return false;
 				data.concreteDescriptor.getBytecodeEnhancementMetadata()
 						.injectInterceptor( entityInstanceForNotify, entityIdentifier, session );
+				persistenceContext.getBatchFetchQueue()
+						.addLazyAttributeBatchLoadableEntityKey( entityKey, data.concreteDescriptor );
 			}
 		}
 		data.concreteDescriptor.setValues( entityInstanceForNotify, resolvedEntityState );
@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import jakarta.annotation.Nullable;
 import jakarta.persistence.Timeout;
 import org.hibernate.LockOptions;
 import org.hibernate.Timeouts;
@@ -17,6 +18,7 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -45,6 +47,8 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final Limit limit;
 	private final LimitHandler limitHandler;
 	private final int resultCountEstimate;
+	private final int adaptiveFetchSizeLimit;
+	private final @Nullable AdaptiveFetchSize adaptiveFetchSize;
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
@@ -65,6 +69,11 @@ public DeferredResultSetAccess(
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.resultCountEstimate = resultCountEstimate;
 
+		adaptiveFetchSizeLimit =
+				executionContext.getSession().getFactory()
+						.getSessionFactoryOptions().getAdaptiveFetchSizeLimit();
+		adaptiveFetchSize = adaptiveFetchSizeLimit > 0 ? jdbcSelect.getAdaptiveFetchSize() : null;
+
 		final var queryOptions = executionContext.getQueryOptions();
 		if ( queryOptions == null ) {
 			finalSql = jdbcSelect.getSqlString();
@@ -222,6 +231,13 @@ private void setQueryOptions(PreparedStatement preparedStatement) throws SQLExce
 				JDBC_LOGGER.settingFetchSize( fetchSize );
 				preparedStatement.setFetchSize( fetchSize );
 			}
+			else if ( adaptiveFetchSize != null ) {
+				final Integer learnedFetchSize = adaptiveFetchSize.getFetchSize( adaptiveFetchSizeLimit );
+				if ( learnedFetchSize != null ) {
+					JDBC_LOGGER.settingFetchSize( learnedFetchSize );
+					preparedStatement.setFetchSize( learnedFetchSize );
+				}
+			}
 			final Timeout timeout = queryOptions.getTimeout();
 			if ( Timeouts.isRealTimeout( timeout ) ) {
 				// JDBC expects timeout in seconds
@@ -319,6 +335,13 @@ protected ResultSet wrapResultSet(ResultSet resultSet) throws SQLException {
 		return resultSet;
 	}
 
+	@Override
+	public void afterRowsRead(int rowCount) {
+		if ( adaptiveFetchSize != null && resultSet != null ) {
+			adaptiveFetchSize.record( rowCount, getColumnCount() );
+		}
+	}
+
 	@Override
 	public void release() {
 		final var jdbcCoordinator = getPersistenceContext().getJdbcCoordinator();
@@ -50,6 +50,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	private int rowCount;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -263,7 +264,13 @@ public boolean last(RowProcessingState rowProcessingState) {
 
 	private boolean advanceNext() {
 		try {
-			return resultSet.next();
+			if ( resultSet.next() ) {
+				rowCount++;
+				return true;
+			}
+			else {
+				return false;
+			}
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
@@ -327,6 +334,7 @@ public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( resultCount, session );
 		}
+		resultSetAccess.afterRowsRead( rowCount );
 		resultSetAccess.release();
 	}
 
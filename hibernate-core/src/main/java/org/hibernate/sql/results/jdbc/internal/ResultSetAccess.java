@@ -24,6 +24,15 @@ public interface ResultSetAccess extends JdbcValuesMetadata {
 	 */
 	void release();
 
+	/**
+	 * Called before the {@link ResultSet} is {@linkplain #release released}
+	 * with the number of rows which were read from it.
+	 *
+	 * @since 8.0
+	 */
+	default void afterRowsRead(int rowCount) {
+	}
+
 	/**
 	 * An estimate for the number of results that can be expected for pre-sizing collections.
 	 * May return zero or negative values if the count cannot be reasonably estimated.
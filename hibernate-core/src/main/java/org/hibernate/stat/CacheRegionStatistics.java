@@ -39,6 +39,19 @@ public interface CacheRegionStatistics extends Serializable {
 	 */
 	long getMissCount();
 
+	/**
+	 * The number of unsuccessful cache look-ups against the region since the
+	 * last Statistics clearing which did not result in a load from the database,
+	 * because the item was loaded by a concurrent session in the meantime
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_MISS_COALESCING_TIMEOUT
+	 *
+	 * @since 8.0
+	 */
+	default long getCoalescedMissCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of removals since the last Statistics clearing
 	 */
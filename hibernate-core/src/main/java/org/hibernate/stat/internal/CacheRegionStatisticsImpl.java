@@ -23,6 +23,7 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
+	private final LongAdder coalescedMissCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 
@@ -49,6 +50,11 @@ public long getMissCount() {
 		return missCount.sum();
 	}
 
+	@Override
+	public long getCoalescedMissCount() {
+		return coalescedMissCount.sum();
+	}
+
 	@Override
 	public long getPutCount() {
 		return putCount.sum();
@@ -88,6 +94,10 @@ void incrementMissCount() {
 		missCount.increment();
 	}
 
+	void incrementCoalescedMissCount() {
+		coalescedMissCount.increment();
+	}
+
 	void incrementPutCount() {
 		putCount.increment();
 	}
@@ -104,6 +114,7 @@ public String toString() {
 						.append( "[region=" ).append( regionName )
 						.append( ",hitCount=" ).append( hitCount )
 						.append( ",missCount=" ).append( missCount )
+						.append( ",coalescedMissCount=" ).append( coalescedMissCount )
 						.append( ",putCount=" ).append( putCount )
 						.append( ",removeCount=" ).append( removeCount );
 		if ( extendedStatisticsSupport != null ) {
@@ -354,6 +354,11 @@ public void entityCacheMiss(NavigableRole entityName, String regionName) {
 		getEntityStatistics( entityName.getFullPath() ).incrementCacheMissCount();
 	}
 
+	@Override
+	public void entityCacheMissCoalesced(NavigableRole entityName, String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementCoalescedMissCount();
+	}
+
 	@Override
 	public void entityCacheRemove(NavigableRole entityName, String regionName) {
 		secondLevelCacheMissCount.increment();
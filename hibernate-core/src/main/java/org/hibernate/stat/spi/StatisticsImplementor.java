@@ -166,6 +166,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void entityCacheMiss(NavigableRole entityName, String regionName);
 
+	/**
+	 * Callback indicating a miss in the second level cache was followed by a hit,
+	 * after waiting for the entity to be loaded by another thread.
+	 *
+	 * @apiNote {@code entityName} should be the root entity name
+	 *
+	 * @since 8.0
+	 */
+	void entityCacheMissCoalesced(NavigableRole entityName, String regionName);
+
 	/**
 	 * Callback indicating a removal from second level cache.
 	 *
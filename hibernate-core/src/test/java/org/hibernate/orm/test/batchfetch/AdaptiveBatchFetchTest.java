@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE}
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchTest.Owner.class, AdaptiveBatchFetchTest.Pet.class })
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "16"),
+		// generous, so that a slow build machine does not shrink the batches
+		@Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH_TARGET_TIME, value = "60000")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class AdaptiveBatchFetchTest {
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 20; id++ ) {
+				final Owner owner = new Owner();
+				owner.id = id;
+				session.persist( owner );
+				final Pet pet = new Pet();
+				pet.id = id;
+				pet.owner = owner;
+				session.persist( pet );
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testBatchSizeGrows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final boolean arrayParameters = scope.getSessionFactory().getJdbcServices().getDialect()
+				.useArrayForMultiValuedParameters();
+		scope.inTransaction( session -> {
+			final List<Owner> owners =
+					session.createSelectionQuery( "from Owner order by id", Owner.class ).getResultList();
+			statementInspector.clear();
+			final Set<Integer> petIds = new HashSet<>();
+			for ( Owner owner : owners ) {
+				owner.pets.forEach( pet -> petIds.add( pet.id ) );
+				assertTrue( Hibernate.isInitialized( owner.pets ) );
+			}
+			assertEquals( 20, petIds.size() );
+			// batches of 2, 4, 8, and the remaining 6 keys when
+			// keys are passed as an array, otherwise the 10 batches
+			// of the configured size
+			assertEquals( arrayParameters ? 4 : 10, statementInspector.getSqlQueries().size() );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	static class Owner {
+		@Id
+		Integer id;
+		@OneToMany(mappedBy = "owner")
+		@BatchSize(size = 2)
+		Set<Pet> pets = new HashSet<>();
+	}
+
+	@Entity(name = "Pet")
+	static class Pet {
+		@Id
+		Integer id;
+		@ManyToOne
+		Owner owner;
+	}
+}
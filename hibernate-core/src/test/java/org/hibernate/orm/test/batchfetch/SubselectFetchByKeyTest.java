@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value FetchSettings#SUBSELECT_FETCH_BY_KEY}
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@DomainModel(annotatedClasses = { SubselectFetchByKeyTest.Owner.class, SubselectFetchByKeyTest.Pet.class })
+@ServiceRegistry(settings = @Setting(name = FetchSettings.SUBSELECT_FETCH_BY_KEY, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class SubselectFetchByKeyTest {
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 10; id++ ) {
+				final Owner owner = new Owner();
+				owner.id = id;
+				owner.name = "owner" + id;
+				session.persist( owner );
+				for ( int i = 0; i < id % 3; i++ ) {
+					final Pet pet = new Pet();
+					pet.id = id * 10 + i;
+					pet.owner = owner;
+					session.persist( pet );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testSubselectFetchByKey(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Owner> owners =
+					session.createSelectionQuery( "from Owner where name like 'owner%' order by id", Owner.class )
+							.setFirstResult( 2 )
+							.setMaxResults( 5 )
+							.getResultList();
+			final List<Owner> others =
+					session.createSelectionQuery( "from Owner where id < 3 order by id", Owner.class )
+							.getResultList();
+			statementInspector.clear();
+
+			final Set<Integer> petIds = new HashSet<>();
+			owners.get( 0 ).pets.forEach( pet -> petIds.add( pet.id ) );
+			// all collections of the page were loaded by a single
+			// statement which does not repeat the original query
+			statementInspector.assertExecutedCount( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( "like" );
+			for ( Owner owner : owners ) {
+				assertTrue( Hibernate.isInitialized( owner.pets ) );
+				assertEquals( owner.id % 3, owner.pets.size() );
+				owner.pets.forEach( pet -> petIds.add( pet.id ) );
+			}
+			assertEquals( 4, petIds.size() );
+			for ( Owner owner : others ) {
+				assertFalse( Hibernate.isInitialized( owner.pets ) );
+			}
+			statementInspector.assertExecutedCount( 1 );
+
+			// the same loader serves the subselect fetch of another query
+			assertEquals( 1, others.get( 0 ).pets.size() );
+			assertTrue( Hibernate.isInitialized( others.get( 1 ).pets ) );
+			statementInspector.assertExecutedCount( 2 );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "owner")
+		@Fetch(FetchMode.SUBSELECT)
+		Set<Pet> pets = new HashSet<>();
+	}
+
+	@Entity(name = "Pet")
+	static class Pet {
+		@Id
+		Integer id;
+		@ManyToOne
+		Owner owner;
+	}
+}
@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bulkid;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.sqm.mutation.internal.inline.ArrayParameterMutationStrategy;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.QUERY_MULTI_TABLE_MUTATION_STRATEGY,
+				value = ArrayParameterMutationStrategy.SHORT_NAME
+		)
+)
+public class ArrayParameterMutationStrategyIdTest extends AbstractMutationStrategyIdTest {
+}
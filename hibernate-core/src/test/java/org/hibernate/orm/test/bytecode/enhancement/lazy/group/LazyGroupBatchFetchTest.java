@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.group;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lazy groups are loaded for several entity instances at once
+ * when the entity is {@linkplain BatchSize batch fetchable} and
+ * {@value AvailableSettings#BATCH_FETCH_LAZY_ATTRIBUTES} is enabled.
+ */
+@DomainModel(annotatedClasses = LazyGroupBatchFetchTest.Document.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "false"),
+		@Setting(name = AvailableSettings.BATCH_FETCH_LAZY_ATTRIBUTES, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@BytecodeEnhanced
+public class LazyGroupBatchFetchTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 7; id++ ) {
+				session.persist( new Document( id, "Document " + id, "text " + id, "summary " + id ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	void tearDown(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testLazyGroupLoadedInBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Document> documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).getResultList();
+			assertEquals( 7, documents.size() );
+			for ( Document document : documents ) {
+				assertFalse( Hibernate.isPropertyInitialized( document, "text" ) );
+				assertFalse( Hibernate.isPropertyInitialized( document, "summary" ) );
+			}
+
+			inspector.clear();
+			assertEquals( "text 1", documents.get( 0 ).getText() );
+			// batch size is 5
+			assertEquals( 1, inspector.getSqlQueries().size() );
+			int initialized = 0;
+			for ( Document document : documents ) {
+				if ( Hibernate.isPropertyInitialized( document, "text" ) ) {
+					initialized++;
+					// the other lazy group is not loaded
+					assertFalse( Hibernate.isPropertyInitialized( document, "summary" ) );
+				}
+			}
+			assertEquals( 5, initialized );
+
+			for ( Document document : documents ) {
+				assertEquals( "text " + document.getId(), document.getText() );
+			}
+			assertEquals( 2, inspector.getSqlQueries().size() );
+			for ( Document document : documents ) {
+				assertTrue( Hibernate.isPropertyInitialized( document, "text" ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testModifiedAttributeNotOverwritten(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Document> documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).getResultList();
+			documents.get( 1 ).setText( "changed" );
+			assertEquals( "text 1", documents.get( 0 ).getText() );
+			assertEquals( "changed", documents.get( 1 ).getText() );
+			assertEquals( "text 3", documents.get( 2 ).getText() );
+			session.getTransaction().setRollbackOnly();
+		} );
+	}
+
+	@Entity(name = "Document")
+	@BatchSize(size = 5)
+	static class Document {
+		@Id
+		Long id;
+
+		String title;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("text")
+		String text;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("summary")
+		String summary;
+
+		Document() {
+		}
+
+		Document(Long id, String title, String text, String summary) {
+			this.id = id;
+			this.title = title;
+			this.text = text;
+			this.summary = summary;
+		}
+
+		Long getId() {
+			return id;
+		}
+
+		String getText() {
+			return text;
+		}
+
+		void setText(String text) {
+			this.text = text;
+		}
+	}
+}
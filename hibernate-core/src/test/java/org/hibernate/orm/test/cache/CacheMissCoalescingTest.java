@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that a session which misses the second-level cache while another session
+ * is loading the same entity waits for that load, instead of loading the entity
+ * from the database itself.
+ */
+@DomainModel(annotatedClasses = CacheMissCoalescingTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"),
+				@Setting(name = AvailableSettings.CACHE_MISS_COALESCING_TIMEOUT, value = "10000"),
+		}
+)
+public class CacheMissCoalescingTest {
+
+	@BeforeEach
+	public void setupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testConcurrentMissWaitsForLoad(SessionFactoryScope scope) throws InterruptedException {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+
+		// this thread is loading the book
+		assertFalse( cache.awaitConcurrentLoad( cacheKey, 0 ) );
+
+		final AtomicReference<Book> waitingResult = new AtomicReference<>();
+		final Thread waiting = new Thread( () -> scope.inTransaction(
+				session -> waitingResult.set( session.find( Book.class, 1 ) )
+		) );
+		waiting.start();
+		while ( waiting.getState() != Thread.State.TIMED_WAITING ) {
+			assertTrue( waiting.isAlive() );
+			Thread.sleep( 10 );
+		}
+
+		scope.inTransaction( session -> assertNotNull( session.find( Book.class, 1 ) ) );
+		cache.loadCompleted( cacheKey );
+		waiting.join();
+
+		assertEquals( "Hibernate in Action", waitingResult.get().title );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertEquals( 1, statistics.getEntityLoadCount() );
+		assertEquals( 1, statistics.getDomainDataRegionStatistics( "book" ).getCoalescedMissCount() );
+	}
+
+	@Test
+	public void testWaitTimesOut(SessionFactoryScope scope) throws InterruptedException {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+
+		assertFalse( cache.awaitConcurrentLoad( cacheKey, 0 ) );
+		try {
+			final AtomicReference<Boolean> loadedConcurrently = new AtomicReference<>();
+			final Thread waiting = new Thread( () -> loadedConcurrently.set( cache.awaitConcurrentLoad( cacheKey, 10 ) ) );
+			waiting.start();
+			waiting.join();
+			assertFalse( loadedConcurrently.get() );
+		}
+		finally {
+			cache.loadCompleted( cacheKey );
+		}
+	}
+
+	@Test
+	public void testNestedLoadDoesNotReleaseWaiters(SessionFactoryScope scope) throws InterruptedException {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+
+		// an outer and a nested load of the book by this thread
+		assertFalse( cache.awaitConcurrentLoad( cacheKey, 0 ) );
+		assertFalse( cache.awaitConcurrentLoad( cacheKey, 0 ) );
+		cache.loadCompleted( cacheKey );
+		try {
+			// the outer load is still in progress, so the wait times out
+			final AtomicLong waited = new AtomicLong();
+			final Thread waiting = new Thread( () -> {
+				final long start = System.nanoTime();
+				assertFalse( cache.awaitConcurrentLoad( cacheKey, 50 ) );
+				waited.set( System.nanoTime() - start );
+			} );
+			waiting.start();
+			waiting.join();
+			assertTrue( waited.get() >= TimeUnit.MILLISECONDS.toNanos( 50 ) );
+		}
+		finally {
+			cache.loadCompleted( cacheKey );
+		}
+	}
+
+	@Test
+	public void testUncachedLoadReleasesWaiters(SessionFactoryScope scope) throws InterruptedException {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+
+		assertFalse( cache.awaitConcurrentLoad( cacheKey, 0 ) );
+		final AtomicReference<Boolean> loadedConcurrently = new AtomicReference<>();
+		final Thread waiting = new Thread( () -> loadedConcurrently.set( cache.awaitConcurrentLoad( cacheKey, 60_000 ) ) );
+		waiting.start();
+		while ( waiting.getState() != Thread.State.TIMED_WAITING ) {
+			assertTrue( waiting.isAlive() );
+			Thread.sleep( 10 );
+		}
+		// the load completes without putting the book in the cache
+		cache.loadCompleted( cacheKey );
+		waiting.join( 10_000 );
+		assertFalse( waiting.isAlive() );
+		assertFalse( loadedConcurrently.get() );
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
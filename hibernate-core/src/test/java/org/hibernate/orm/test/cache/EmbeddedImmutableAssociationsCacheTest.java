@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the state of the immutable entities referenced by a cached entity
+ * is read from its cache entry, and that the state of mutable entities is not.
+ */
+@DomainModel(annotatedClasses = {
+		EmbeddedImmutableAssociationsCacheTest.Address.class,
+		EmbeddedImmutableAssociationsCacheTest.Customer.class,
+		EmbeddedImmutableAssociationsCacheTest.Clerk.class,
+		EmbeddedImmutableAssociationsCacheTest.PurchaseOrder.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"),
+				@Setting(name = AvailableSettings.CACHE_EMBED_IMMUTABLE_ASSOCIATIONS, value = "true"),
+		}
+)
+public class EmbeddedImmutableAssociationsCacheTest {
+
+	@BeforeEach
+	public void setupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Address address = new Address( 1, "Paris" );
+			final Customer customer = new Customer( 1, "Gavin", address );
+			final Clerk clerk = new Clerk( 1, "Steve" );
+			session.persist( address );
+			session.persist( customer );
+			session.persist( clerk );
+			session.persist( new PurchaseOrder( 1, customer, clerk ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEmbeddedStateIsAssembled(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PurchaseOrder order = session.find( PurchaseOrder.class, 1 );
+			assertTrue( Hibernate.isInitialized( order.customer ) );
+			assertTrue( Hibernate.isInitialized( order.customer.address ) );
+			assertEquals( "Gavin", order.customer.name );
+			assertEquals( "Paris", order.customer.address.city );
+			assertEquals( "Steve", order.clerk.name );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertEquals( 0, statistics.getEntityLoadCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 4, statistics.getSecondLevelCacheHitCount() );
+		// the customer and the address are read from the entry of the order
+		assertEquals( 3, statistics.getDomainDataRegionStatistics( "order" ).getHitCount() );
+		assertEquals( 1, statistics.getDomainDataRegionStatistics( "clerk" ).getHitCount() );
+		assertEquals( 0, statistics.getDomainDataRegionStatistics( "customer" ).getHitCount() );
+		assertEquals( 0, statistics.getDomainDataRegionStatistics( "address" ).getHitCount() );
+		assertEquals( 1, statistics.getEntityStatistics( Customer.class.getName() ).getCacheHitCount() );
+		assertEquals( 1, statistics.getEntityStatistics( Address.class.getName() ).getCacheHitCount() );
+	}
+
+	@Test
+	public void testEmbeddedEntityIsPostLoaded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PurchaseOrder order = session.find( PurchaseOrder.class, 1 );
+			assertTrue( order.customer.address.postLoaded );
+		} );
+	}
+
+	@Test
+	public void testManagedEntityIsNotReplaced(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			final PurchaseOrder order = session.find( PurchaseOrder.class, 1 );
+			assertSame( customer, order.customer );
+		} );
+	}
+
+	@Entity(name = "Address")
+	@Immutable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "address")
+	public static class Address {
+		@Id
+		Integer id;
+		String city;
+		transient boolean postLoaded;
+
+		Address() {
+		}
+
+		Address(Integer id, String city) {
+			this.id = id;
+			this.city = city;
+		}
+
+		@PostLoad
+		void postLoad() {
+			postLoaded = true;
+		}
+	}
+
+	@Entity(name = "Customer")
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "customer")
+	public static class Customer {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Address address;
+
+		Customer() {
+		}
+
+		Customer(Integer id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	@Entity(name = "Clerk")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clerk")
+	public static class Clerk {
+		@Id
+		Integer id;
+		String name;
+
+		Clerk() {
+		}
+
+		Clerk(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "order")
+	public static class PurchaseOrder {
+		@Id
+		Integer id;
+		@ManyToOne
+		Customer customer;
+		@ManyToOne
+		Clerk clerk;
+
+		PurchaseOrder() {
+		}
+
+		PurchaseOrder(Integer id, Customer customer, Clerk clerk) {
+			this.id = id;
+			this.customer = customer;
+			this.clerk = clerk;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Date;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Entities assembled from the second-level cache in read-only mode
+ * don't keep a private copy of their loaded state.
+ */
+@DomainModel(annotatedClasses = {
+		ReadOnlyCachedStateTest.Country.class,
+		ReadOnlyCachedStateTest.Meeting.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class ReadOnlyCachedStateTest {
+
+	@BeforeEach
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Country( "CH", "Switzerland" ) );
+			session.persist( new Meeting( 1L, new Date( 0 ) ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testImmutableEntityFromCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Country country = session.find( Country.class, "CH" );
+			assertEquals( 1, scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+			assertTrue( session.isReadOnly( country ) );
+			assertNull( loadedState( session, country ) );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntityFromCacheMadeModifiable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final Meeting meeting = session.find( Meeting.class, 1L );
+			assertEquals( 1, scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+			assertNull( loadedState( session, meeting ) );
+			session.setReadOnly( meeting, false );
+			assertNotNull( loadedState( session, meeting ) );
+			// mutate the value in place, which must be detected
+			// by comparison with the snapshot taken on the call
+			// to setReadOnly()
+			meeting.startsAt.setTime( 1000 );
+		} );
+		scope.inTransaction( session ->
+				assertEquals( 1000, session.find( Meeting.class, 1L ).startsAt.getTime() ) );
+	}
+
+	private static Object[] loadedState(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity ).getLoadedState();
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Immutable
+	static class Country {
+		@Id
+		String code;
+		String name;
+
+		Country() {
+		}
+
+		Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Meeting")
+	@Cacheable
+	static class Meeting {
+		@Id
+		Long id;
+		Date startsAt;
+
+		Meeting() {
+		}
+
+		Meeting(Long id, Date startsAt) {
+			this.id = id;
+			this.startsAt = startsAt;
+		}
+	}
+}
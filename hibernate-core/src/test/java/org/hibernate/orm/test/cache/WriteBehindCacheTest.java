@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the writes to the second-level cache which follow the completion
+ * of a transaction are performed by the write-behind thread, in order.
+ */
+@DomainModel(annotatedClasses = WriteBehindCacheTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"),
+				@Setting(name = AvailableSettings.CACHE_WRITE_BEHIND, value = "true"),
+		}
+)
+public class WriteBehindCacheTest {
+
+	@AfterEach
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testWritesAfterCompletion(SessionFactoryScope scope) throws InterruptedException {
+		final CacheImplementor cache = scope.getSessionFactory().getCache();
+		assertTrue( cache.isWriteBehindEnabled() );
+
+		// hold the write-behind thread, so that the writes are queued
+		final CountDownLatch blocked = new CountDownLatch( 1 );
+		scope.inSession( session -> cache.writeBehind( session, writerSession -> {
+			try {
+				blocked.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		} ) );
+
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+		assertFalse( scope.getSessionFactory().getCache().containsEntity( Book.class, 1 ) );
+
+		blocked.countDown();
+		awaitWrites( scope );
+		assertTrue( scope.getSessionFactory().getCache().containsEntity( Book.class, 1 ) );
+
+		scope.inTransaction( session -> session.find( Book.class, 1 ).title = "Hibernate in Action, 2nd edition" );
+		awaitWrites( scope );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inTransaction( session -> assertEquals(
+				"Hibernate in Action, 2nd edition",
+				session.find( Book.class, 1 ).title
+		) );
+		assertEquals( 1, scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testWriteDoesNotRetainSession(SessionFactoryScope scope) throws InterruptedException {
+		final CountDownLatch written = new CountDownLatch( 1 );
+		scope.inSession( session -> scope.getSessionFactory().getCache().writeBehind( session, writerSession -> {
+			assertNotSame( session, writerSession );
+			written.countDown();
+		} ) );
+		assertTrue( written.await( 10, TimeUnit.SECONDS ) );
+	}
+
+	private static void awaitWrites(SessionFactoryScope scope) throws InterruptedException {
+		final CountDownLatch written = new CountDownLatch( 1 );
+		scope.inSession( session -> scope.getSessionFactory().getCache()
+				.writeBehind( session, writerSession -> written.countDown() ) );
+		assertTrue( written.await( 10, TimeUnit.SECONDS ) );
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
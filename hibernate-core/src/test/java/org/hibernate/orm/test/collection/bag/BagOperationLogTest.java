@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FlushSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FlushSettings.COLLECTION_OPERATION_LOG_LIMIT, value = "10"))
+@DomainModel(annotatedClasses = {BagOperationLogTest.Post.class, BagOperationLogTest.Comment.class})
+public class BagOperationLogTest {
+
+	@AfterEach
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testAppendToBagOfValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Post post = new Post( 1L );
+			post.tags.add( "java" );
+			post.tags.add( "sql" );
+			session.persist( post );
+		} );
+
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			post.tags.add( "orm" );
+			post.tags.add( "java" );
+			session.flush();
+			inspector.clear();
+			post.tags.add( "jpa" );
+			session.flush();
+			// only the appended element is inserted
+			assertEquals( 1, inspector.getSqlQueries().size() );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "insert" );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Post.class, 1L ).tags )
+				.containsExactlyInAnyOrder( "java", "sql", "orm", "java", "jpa" ) );
+	}
+
+	@Test
+	public void testRemoveFromBagOfValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Post post = new Post( 1L );
+			post.tags.add( "java" );
+			post.tags.add( "sql" );
+			post.tags.add( "java" );
+			session.persist( post );
+		} );
+
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			post.tags.add( "orm" );
+			post.tags.remove( "java" );
+			post.tags.remove( "orm" );
+			post.tags.add( "jpa" );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Post.class, 1L ).tags )
+				.containsExactlyInAnyOrder( "sql", "java", "jpa" ) );
+	}
+
+	@Test
+	public void testMergeTwice(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Post post = new Post( 1L );
+			post.tags.add( "java" );
+			post.tags.add( "sql" );
+			session.persist( post );
+		} );
+
+		final Post detached = scope.fromTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			Hibernate.initialize( post.tags );
+			return post;
+		} );
+
+		scope.inTransaction( session -> {
+			detached.tags.add( "orm" );
+			session.merge( detached );
+			session.flush();
+			detached.tags.add( "jpa" );
+			session.merge( detached );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Post.class, 1L ).tags )
+				.containsExactlyInAnyOrder( "java", "sql", "orm", "jpa" ) );
+	}
+
+	@Test
+	public void testOneToManyBag(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Post post = new Post( 1L );
+			session.persist( post );
+			for ( long id = 1; id <= 3; id++ ) {
+				final Comment comment = new Comment( id );
+				session.persist( comment );
+				post.comments.add( comment );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			post.comments.remove( 1 );
+			final Comment comment = new Comment( 4L );
+			session.persist( comment );
+			post.comments.add( comment );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Post.class, 1L ).comments )
+				.extracting( comment -> comment.id )
+				.containsExactlyInAnyOrder( 1L, 3L, 4L ) );
+	}
+
+	@Test
+	public void testLimitExceeded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Post( 1L ) ) );
+
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			for ( int i = 0; i < 15; i++ ) {
+				post.tags.add( "tag" + i );
+			}
+			post.tags.remove( "tag3" );
+		} );
+
+		scope.inTransaction( session -> assertEquals( 14, session.find( Post.class, 1L ).tags.size() ) );
+	}
+
+	@Entity(name = "Post")
+	static class Post {
+		@Id
+		Long id;
+
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+
+		@OneToMany
+		@JoinColumn(name = "post_id")
+		List<Comment> comments = new ArrayList<>();
+
+		Post() {
+		}
+
+		Post(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Comment")
+	static class Comment {
+		@Id
+		Long id;
+
+		Comment() {
+		}
+
+		Comment(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.collection.internal.PrimitiveList;
+import org.hibernate.collection.spi.PersistentCollection;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@value MappingSettings#PRIMITIVE_ELEMENT_COLLECTIONS}
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@DomainModel(annotatedClasses = PrimitiveElementCollectionTest.Series.class)
+@ServiceRegistry(settings = @Setting(name = MappingSettings.PRIMITIVE_ELEMENT_COLLECTIONS, value = "true"))
+@SessionFactory
+public class PrimitiveElementCollectionTest {
+
+	@AfterEach
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testLoadAndUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Series series = new Series();
+			series.id = 1;
+			series.tagIds = new ArrayList<>( List.of( 3L, 1L, 2L ) );
+			series.readings = new ArrayList<>( List.of( 0.5, 1.5 ) );
+			series.names = new ArrayList<>( List.of( "a", "b" ) );
+			session.persist( series );
+		} );
+		scope.inTransaction( session -> {
+			final Series series = session.find( Series.class, 1 );
+			assertEquals( List.of( 3L, 1L, 2L ), series.tagIds );
+			assertThat( series.readings ).containsExactlyInAnyOrder( 0.5, 1.5 );
+			assertThat( series.names ).containsExactlyInAnyOrder( "a", "b" );
+			assertInstanceOf( PrimitiveList.class, ( (PersistentCollection<?>) series.tagIds ).getStoredSnapshot() );
+			assertInstanceOf( PrimitiveList.class, ( (PersistentCollection<?>) series.readings ).getStoredSnapshot() );
+			assertThat( ( (PersistentCollection<?>) series.names ).getStoredSnapshot() )
+					.isNotInstanceOf( PrimitiveList.class );
+			series.tagIds.remove( 1 );
+			series.tagIds.add( 7L );
+			series.readings.add( 2.5 );
+		} );
+		scope.inTransaction( session -> {
+			final Series series = session.find( Series.class, 1 );
+			assertEquals( List.of( 3L, 2L, 7L ), series.tagIds );
+			assertThat( series.readings ).containsExactlyInAnyOrder( 0.5, 1.5, 2.5 );
+		} );
+	}
+
+	@Test
+	public void testPrimitiveList() {
+		@SuppressWarnings("unchecked")
+		final List<Long> list = (List<Long>) PrimitiveList.forElementType( Long.class, 0 );
+		assertNotNull( list );
+		assertNull( PrimitiveList.forElementType( String.class, 0 ) );
+		for ( long i = 0; i < 20; i++ ) {
+			list.add( i );
+		}
+		list.set( 5, null );
+		list.add( 0, null );
+		list.remove( 10 );
+		final List<Long> expected = new ArrayList<>();
+		for ( long i = 0; i < 20; i++ ) {
+			expected.add( i == 5 ? null : i );
+		}
+		expected.add( 0, null );
+		expected.remove( 10 );
+		assertEquals( expected, list );
+		assertEquals( expected.hashCode(), list.hashCode() );
+
+		final PrimitiveList<Long> copy = ( (PrimitiveList<Long>) list ).copy();
+		assertEquals( list, copy );
+		copy.set( 0, 0L );
+		assertThat( copy ).isNotEqualTo( list );
+		copy.set( 0, null );
+		assertEquals( list, copy );
+		copy.add( 1L );
+		assertThat( copy ).isNotEqualTo( list );
+	}
+
+	@Entity(name = "Series")
+	static class Series {
+		@Id
+		Integer id;
+		@ElementCollection
+		@OrderColumn
+		List<Long> tagIds;
+		@ElementCollection
+		Collection<Double> readings;
+		@ElementCollection
+		List<String> names;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.extralazy;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DomainModel(xmlMappings = "org/hibernate/orm/test/extralazy/Team.hbm.xml")
+@SessionFactory(useCollectingStatementInspector = true)
+public class BatchedExtraLazySizeTest {
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			long playerId = 0;
+			for ( long teamId = 0; teamId < 5; teamId++ ) {
+				final Team team = new Team( teamId );
+				session.persist( team );
+				for ( int i = 0; i < teamId; i++ ) {
+					session.persist( new Player( ++playerId, team ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testSizesReadInOneQuery(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Team> teams =
+					session.createSelectionQuery( "from Team order by id", Team.class )
+							.getResultList();
+			inspector.clear();
+			for ( Team team : teams ) {
+				assertEquals( team.id.intValue(), team.players.size() );
+				assertFalse( Hibernate.isInitialized( team.players ) );
+			}
+			assertEquals( 1, inspector.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testQueuedOperationNotMasked(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Team> teams =
+					session.createSelectionQuery( "from Team order by id", Team.class )
+							.getResultList();
+			final Team last = teams.get( 4 );
+			final Player player = new Player( 100L, last );
+			session.persist( player );
+			last.players.add( player );
+			assertEquals( 2, teams.get( 2 ).players.size() );
+			assertEquals( 5, last.players.size() );
+			session.remove( player );
+		} );
+	}
+
+	@Test
+	public void testPrefetchedSizeDiscardedByFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Team> teams =
+					session.createSelectionQuery( "from Team order by id", Team.class )
+							.getResultList();
+			assertEquals( 0, teams.get( 0 ).players.size() );
+			// the player is not added to the inverse collection
+			final Player player = new Player( 101L, teams.get( 4 ) );
+			session.persist( player );
+			session.flush();
+			assertEquals( 5, teams.get( 4 ).players.size() );
+			session.remove( player );
+		} );
+	}
+}
@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.extralazy;
+
+public class Player {
+	Long id;
+	Team team;
+
+	Player() {
+	}
+
+	Player(Long id, Team team) {
+		this.id = id;
+		this.team = team;
+	}
+}
@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.extralazy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class Team {
+	Long id;
+	Set<Player> players = new HashSet<>();
+
+	Team() {
+	}
+
+	Team(Long id) {
+		this.id = id;
+	}
+}
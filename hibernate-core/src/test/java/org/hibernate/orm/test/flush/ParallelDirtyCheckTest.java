@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Transient;
+
+import static org.hibernate.cfg.FlushSettings.PARALLEL_DIRTY_CHECK_THRESHOLD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@value org.hibernate.cfg.FlushSettings#PARALLEL_DIRTY_CHECK_THRESHOLD}
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@ServiceRegistry(settings = @Setting(name = PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"))
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Measurement.class,
+		ParallelDirtyCheckTest.Sensor.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class ParallelDirtyCheckTest {
+
+	@BeforeEach
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Sensor( 1L, "thermometer" ) );
+			for ( long id = 1; id <= 50; id++ ) {
+				session.persist( new Measurement( id, id * 1.5, new Location( id, -id ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testNoUpdatesForUnmodifiedEntities(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Measurement> measurements =
+					session.createSelectionQuery( "from Measurement", Measurement.class ).getResultList();
+			assertEquals( 50, measurements.size() );
+			inspector.clear();
+			session.flush();
+			assertEquals( 0, inspector.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testUpdatesForModifiedEntities(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Measurement> measurements =
+					session.createSelectionQuery( "from Measurement order by id", Measurement.class )
+							.getResultList();
+			final Sensor sensor = session.find( Sensor.class, 1L );
+			measurements.get( 3 ).reading = -1.0;
+			measurements.get( 17 ).location = new Location( 18, 0 );
+			sensor.name = "barometer";
+			inspector.clear();
+			session.flush();
+			assertEquals( 3, inspector.getSqlQueries().size() );
+		} );
+		scope.inTransaction( session -> {
+			assertEquals( -1.0, session.find( Measurement.class, 4L ).reading );
+			assertEquals( 0, session.find( Measurement.class, 18L ).location.y() );
+			assertEquals( 36.0, session.find( Measurement.class, 24L ).reading );
+			assertEquals( "barometer", session.find( Sensor.class, 1L ).name );
+		} );
+	}
+
+	@Test
+	public void testUpdatesFromFlushTimeCallback(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				factory -> factory.withOptions().interceptor(
+						new Interceptor() {
+							@Override
+							public boolean onFlushDirty(
+									Object entity,
+									Object id,
+									Object[] currentState,
+									Object[] previousState,
+									String[] propertyNames,
+									Type[] types) {
+								if ( entity instanceof Measurement measurement && measurement.id == 4L ) {
+									// modify entities which were already dirty-checked in parallel
+									measurement.sensor.name = "hygrometer";
+									measurement.next.reading = -2.0;
+								}
+								return false;
+							}
+						} ).openSession(),
+				session -> {
+					final List<Measurement> measurements =
+							session.createSelectionQuery( "from Measurement order by id", Measurement.class )
+									.getResultList();
+					final Measurement measurement = measurements.get( 3 );
+					measurement.sensor = session.find( Sensor.class, 1L );
+					measurement.next = measurements.get( 39 );
+					measurement.reading = -1.0;
+					inspector.clear();
+					session.flush();
+					assertEquals( 3, inspector.getSqlQueries().size() );
+				}
+		);
+		scope.inTransaction( session -> {
+			assertEquals( -1.0, session.find( Measurement.class, 4L ).reading );
+			assertEquals( -2.0, session.find( Measurement.class, 40L ).reading );
+			assertEquals( "hygrometer", session.find( Sensor.class, 1L ).name );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	static class Measurement {
+		@Id
+		Long id;
+		double reading;
+		Location location;
+		@Transient
+		Sensor sensor;
+		@Transient
+		Measurement next;
+
+		Measurement() {
+		}
+
+		Measurement(Long id, double reading, Location location) {
+			this.id = id;
+			this.reading = reading;
+			this.location = location;
+		}
+	}
+
+	@Embeddable
+	record Location(long x, long y) {
+	}
+
+	@Entity(name = "Sensor")
+	static class Sensor {
+		@Id
+		Long id;
+		String name;
+
+		Sensor() {
+		}
+
+		Sensor(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryFunctionalTesting;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.cfg.JdbcSettings.ADAPTIVE_FETCH_SIZE_LIMIT;
+import static org.hibernate.cfg.JdbcSettings.CONNECTION_PROVIDER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_LIMIT}
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@ServiceRegistryFunctionalTesting
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Event.class)
+@SessionFactory
+public class AdaptiveFetchSizeTest implements ServiceRegistryProducer {
+	private final PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+	private final Method setFetchSize;
+
+	public AdaptiveFetchSizeTest() throws Exception {
+		setFetchSize = PreparedStatement.class.getMethod( "setFetchSize", int.class );
+	}
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 50; id++ ) {
+				session.persist( new Event( id, "Event " + id ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testFetchSizeLearned(SessionFactoryScope scope) {
+		// the limit of 60 values allows 30 rows of 2 columns
+		assertEquals( List.of(), executeAndGetFetchSizes( scope, "from Event" ) );
+		assertEquals( List.of( 30 ), executeAndGetFetchSizes( scope, "from Event" ) );
+
+		assertEquals( List.of(), executeAndGetFetchSizes( scope, "from Event where id <= 20" ) );
+		assertEquals( List.of( 21 ), executeAndGetFetchSizes( scope, "from Event where id <= 20" ) );
+	}
+
+	@Test
+	public void testExplicitFetchSize(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				connectionProvider.clear();
+				session.createSelectionQuery( "from Event where id > 10", Event.class )
+						.setFetchSize( 5 )
+						.getResultList();
+			} );
+			assertEquals( List.of( 5 ), getFetchSizes() );
+		}
+	}
+
+	@Test
+	public void testAdaptation() {
+		final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
+		assertNull( adaptiveFetchSize.getFetchSize( 1000 ) );
+		adaptiveFetchSize.record( 1, 4 );
+		assertEquals( AdaptiveFetchSize.MINIMUM_FETCH_SIZE, adaptiveFetchSize.getFetchSize( 1000 ) );
+		adaptiveFetchSize.record( 100, 4 );
+		assertEquals( 101, adaptiveFetchSize.getFetchSize( 1000 ) );
+		// capped by the limit
+		assertEquals( 25, adaptiveFetchSize.getFetchSize( 100 ) );
+		// shrinks gradually
+		adaptiveFetchSize.record( 0, 4 );
+		assertEquals( 76, adaptiveFetchSize.getFetchSize( 1000 ) );
+		assertTrue( adaptiveFetchSize.getFetchSize( 1 ) >= 1 );
+	}
+
+	private List<Integer> executeAndGetFetchSizes(SessionFactoryScope scope, String hql) {
+		scope.inTransaction( session -> {
+			connectionProvider.clear();
+			session.createSelectionQuery( hql, Event.class ).getResultList();
+		} );
+		return getFetchSizes();
+	}
+
+	private List<Integer> getFetchSizes() {
+		final List<PreparedStatement> preparedStatements = connectionProvider.getPreparedStatements();
+		assertEquals( 1, preparedStatements.size() );
+		return connectionProvider.spyContext.getCalls( setFetchSize, preparedStatements.get( 0 ) ).stream()
+				.map( arguments -> (Integer) arguments[0] )
+				.toList();
+	}
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder registryBuilder) {
+		registryBuilder.applySetting( ADAPTIVE_FETCH_SIZE_LIMIT, 60 );
+		final Object configuredConnProvider = registryBuilder.getSettings().get( CONNECTION_PROVIDER );
+		if ( configuredConnProvider != null ) {
+			connectionProvider.setConnectionProvider( (ConnectionProvider) configuredConnProvider );
+		}
+		registryBuilder.applySetting( CONNECTION_PROVIDER, connectionProvider );
+		return registryBuilder.build();
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
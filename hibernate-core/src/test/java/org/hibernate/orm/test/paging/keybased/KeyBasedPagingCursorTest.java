@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.paging.keybased;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"))
+@DomainModel(annotatedClasses = KeyBasedPagingCursorTest.Person.class)
+public class KeyBasedPagingCursorTest {
+	private static final List<Order<? super Person>> KEY =
+			List.of( Order.asc( Person.class, "dob" ), Order.asc( Person.class, "ssn" ) );
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				final Person person = new Person();
+				person.ssn = "ssn-" + i;
+				person.dob = LocalDate.of( 1970, 2, 1 + i % 4 );
+				session.persist( person );
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testPlanReusedAcrossPages(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			KeyedResultList<Person> results =
+					session.createSelectionQuery( "from Person", Person.class )
+							.getKeyedResultList( Page.first( 3 ).keyedBy( KEY ) );
+			results = session.createSelectionQuery( "from Person", Person.class )
+					.getKeyedResultList( results.getNextPage() );
+			statistics.clear();
+			int pages = 2;
+			while ( !results.isLastPage() ) {
+				results = session.createSelectionQuery( "from Person", Person.class )
+						.getKeyedResultList( results.getNextPage() );
+				pages++;
+			}
+			assertEquals( 7, pages );
+			assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+		} );
+	}
+
+	@Test
+	public void testQueryParameterDoesNotClashWithKey(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final String hql = "from Person where ssn <> :hibernateKey_0";
+			final KeyedResultList<Person> first =
+					session.createSelectionQuery( hql, Person.class )
+							.setParameter( "hibernateKey_0", "ssn-4" )
+							.getKeyedResultList( Page.first( 3 ).keyedBy( KEY ) );
+			final KeyedResultList<Person> second =
+					session.createSelectionQuery( hql, Person.class )
+							.setParameter( "hibernateKey_0", "ssn-4" )
+							.getKeyedResultList( first.getNextPage() );
+			assertEquals( 3, second.getResultList().size() );
+			second.getResultList().forEach( person -> assertNotEquals( "ssn-4", person.ssn ) );
+		} );
+	}
+
+	@Test
+	public void testResumeFromCursor(SessionFactoryScope scope) {
+		final List<String> expected = scope.fromSession( session ->
+				session.createSelectionQuery( "select ssn from Person order by dob, ssn", String.class )
+						.getResultList() );
+		final List<String> ssns = new ArrayList<>();
+		String cursor = Page.first( 6 ).keyedBy( KEY ).getCursor();
+		while ( cursor != null ) {
+			// every page is obtained in a new session, from the cursor alone
+			final String currentCursor = cursor;
+			cursor = scope.fromSession( session -> {
+				final KeyedResultList<Person> results =
+						session.createSelectionQuery( "from Person", Person.class )
+								.getKeyedResultList( KeyedPage.forCursor( KEY, currentCursor ) );
+				results.getResultList().forEach( person -> ssns.add( person.ssn ) );
+				return results.isLastPage() ? null : results.getNextPage().getCursor();
+			} );
+		}
+		assertEquals( expected, ssns );
+	}
+
+	@Test
+	public void testCursorRoundTrip() {
+		final KeyedPage<Person> page =
+				Page.page( 10, 3 ).keyedBy( KEY )
+						.withKey( List.of( LocalDate.of( 1970, 2, 3 ), "ssn-7" ),
+								KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE );
+		final KeyedPage<Person> resumed = KeyedPage.forCursor( KEY, page.getCursor() );
+		assertEquals( page.getKey(), resumed.getKey() );
+		assertEquals( page.getKeyInterpretation(), resumed.getKeyInterpretation() );
+		assertEquals( 10, resumed.getPage().getSize() );
+		assertEquals( 3, resumed.getPage().getNumber() );
+		assertNull( KeyedPage.forCursor( KEY, Page.first( 5 ).keyedBy( KEY ).getCursor() ).getKey() );
+
+		assertThrows( IllegalArgumentException.class,
+				() -> KeyedPage.forCursor( List.of( Order.asc( Person.class, "ssn" ) ), page.getCursor() ) );
+		assertThrows( IllegalArgumentException.class, () -> KeyedPage.forCursor( KEY, "not a cursor" ) );
+		// same arity, but the values are not of the types of the attributes
+		assertThrows( IllegalArgumentException.class,
+				() -> KeyedPage.forCursor( List.of( Order.asc( Person.class, "ssn" ), Order.asc( Person.class, "dob" ) ),
+						page.getCursor() ) );
+	}
+
+	@Test
+	public void testCursorWithEnumAndLongKey() {
+		final List<Order<? super Person>> key =
+				List.of( Order.asc( Person.class, "status" ), Order.asc( Person.class, "ssn" ) );
+		final String longSsn = "x".repeat( 70_000 );
+		final KeyedPage<Person> page =
+				Page.first( 10 ).keyedBy( key )
+						.withKey( List.of( Status.RETIRED, longSsn ),
+								KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE );
+		final KeyedPage<Person> resumed = KeyedPage.forCursor( key, page.getCursor() );
+		assertEquals( List.of( Status.RETIRED, longSsn ), resumed.getKey() );
+
+		// the enum type is taken from the key definition
+		assertThrows( IllegalArgumentException.class, () -> KeyedPage.forCursor(
+				List.of( Order.asc( Person.class, "ssn" ), Order.asc( Person.class, "ssn" ) ),
+				page.getCursor() ) );
+	}
+
+	enum Status {
+		ACTIVE,
+		RETIRED
+	}
+
+	@Entity(name = "Person")
+	static class Person {
+		@Id
+		String ssn;
+		LocalDate dob;
+		Status status;
+	}
+}
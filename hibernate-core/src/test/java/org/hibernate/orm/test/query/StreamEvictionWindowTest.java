@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value HibernateHints#HINT_STREAM_EVICTION_WINDOW}
+ */
+@DomainModel(annotatedClasses = {
+		StreamEvictionWindowTest.Book.class,
+		StreamEvictionWindowTest.Chapter.class
+})
+@SessionFactory
+public class StreamEvictionWindowTest {
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 20; id++ ) {
+				final Book book = new Book( id, "Book " + id );
+				session.persist( book );
+				for ( int number = 1; number <= 3; number++ ) {
+					final Chapter chapter = new Chapter( id * 10 + number, book );
+					book.chapters.add( chapter );
+					session.persist( chapter );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testEntitiesEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Book> stream = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_STREAM_EVICTION_WINDOW, 2 )
+					.stream() ) {
+				stream.forEach( book -> {
+					assertTrue( session.contains( book ) );
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 2 );
+					books.add( book );
+				} );
+			}
+			assertEquals( 20, books.size() );
+			assertFalse( session.contains( books.get( 0 ) ) );
+			assertTrue( session.contains( books.get( 19 ) ) );
+		} );
+	}
+
+	@Test
+	public void testFetchedCollectionElementsEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Book> stream = session.createSelectionQuery(
+							"from Book b join fetch b.chapters order by b.id", Book.class )
+					.setHint( HibernateHints.HINT_STREAM_EVICTION_WINDOW, 1 )
+					.stream() ) {
+				stream.forEach( book -> {
+					assertEquals( 3, book.chapters.size() );
+					// the current book with its chapters, and possibly the
+					// next book, which has already been read ahead
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 8 );
+					books.add( book );
+				} );
+			}
+			assertEquals( 20, books.size() );
+			assertFalse( session.contains( books.get( 0 ).chapters.get( 0 ) ) );
+		} );
+	}
+
+	@Test
+	public void testFetchedToOneEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final List<Chapter> chapters = new ArrayList<>();
+			try ( Stream<Chapter> stream = session.createSelectionQuery(
+							"from Chapter c join fetch c.book order by c.id", Chapter.class )
+					.setHint( HibernateHints.HINT_STREAM_EVICTION_WINDOW, 1 )
+					.stream() ) {
+				stream.forEach( chapter -> {
+					// a book is shared by the chapters in the window
+					assertTrue( session.contains( chapter.book ) );
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 4 );
+					chapters.add( chapter );
+				} );
+			}
+			assertEquals( 60, chapters.size() );
+			assertFalse( session.contains( chapters.get( 0 ).book ) );
+		} );
+	}
+
+	@Test
+	public void testNoEvictionByDefault(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> stream = session.createSelectionQuery( "from Book", Book.class ).stream() ) {
+				assertEquals( 20, stream.count() );
+			}
+			assertEquals( 20, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		Long id;
+		String title;
+		@OneToMany(mappedBy = "book")
+		List<Chapter> chapters = new ArrayList<>();
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Chapter")
+	static class Chapter {
+		@Id
+		Long id;
+		@ManyToOne
+		Book book;
+
+		Chapter() {
+		}
+
+		Chapter(Long id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+}
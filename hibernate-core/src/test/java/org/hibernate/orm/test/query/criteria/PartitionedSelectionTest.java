@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.orm.test.query.criteria.PartitionedSelectionTest_.Book_;
+import org.hibernate.query.specification.PartitionedSelection;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SessionFactory
+@DomainModel(annotatedClasses = PartitionedSelectionTest.Book.class)
+public class PartitionedSelectionTest {
+
+	private ExecutorService executor;
+
+	@BeforeAll
+	void createData(SessionFactoryScope scope) {
+		executor = Executors.newFixedThreadPool( 4 );
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 100; id++ ) {
+				final Book book = new Book();
+				book.id = id;
+				book.title = "Book " + id;
+				book.discontinued = id % 10 == 0;
+				session.persist( book );
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope scope) {
+		executor.shutdownNow();
+		scope.dropData();
+	}
+
+	@Test
+	public void testBoundaries() {
+		assertEquals( List.of( 26L, 51L, 76L ), PartitionedSelection.boundaries( 1, 100, 4 ) );
+		assertEquals( List.of(), PartitionedSelection.boundaries( 1, 100, 1 ) );
+		assertEquals( List.of( 0L ), PartitionedSelection.boundaries( Long.MIN_VALUE, Long.MAX_VALUE, 2 ) );
+		assertEquals( List.of( 1L, 2L, 2L ), PartitionedSelection.boundaries( 1, 2, 4 ) );
+		assertThrows( IllegalArgumentException.class, () -> PartitionedSelection.boundaries( 100, 1, 4 ) );
+	}
+
+	@Test
+	public void testPartitionedStream(SessionFactoryScope scope) {
+		final var partitioned = PartitionedSelection.create(
+				Book.class,
+				"from Book where discontinued = false",
+				Book_.id,
+				PartitionedSelection.boundaries( 1, 100, 4 )
+		).setBufferSize( 5 );
+		assertEquals( 4, partitioned.getPartitions().size() );
+		try ( Stream<Book> books = partitioned.stream( scope.getSessionFactory(), executor ) ) {
+			assertEquals(
+					LongStream.rangeClosed( 1, 100 ).filter( id -> id % 10 != 0 ).boxed().toList(),
+					books.map( book -> book.id ).sorted().toList()
+			);
+		}
+	}
+
+	@Test
+	public void testStreamClosedEarly(SessionFactoryScope scope) {
+		final var partitioned = PartitionedSelection.create(
+				Book.class,
+				"from Book",
+				Book_.id,
+				PartitionedSelection.boundaries( 1, 100, 4 )
+		).setBufferSize( 1 );
+		try ( Stream<Book> books = partitioned.stream( scope.getSessionFactory(), executor ) ) {
+			assertEquals( 3, books.limit( 3 ).count() );
+		}
+	}
+
+	@Test
+	public void testRejectedPartition(SessionFactoryScope scope) {
+		final var partitioned = PartitionedSelection.create(
+				Book.class,
+				"from Book",
+				Book_.id,
+				PartitionedSelection.boundaries( 1, 100, 4 )
+		);
+		final AtomicInteger submitted = new AtomicInteger();
+		final Executor rejecting = task -> {
+			if ( submitted.incrementAndGet() > 2 ) {
+				throw new RejectedExecutionException();
+			}
+			executor.execute( task );
+		};
+		assertThrows( RejectedExecutionException.class,
+				() -> partitioned.stream( scope.getSessionFactory(), rejecting ) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		boolean discontinued;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.temporal.audit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.annotations.Audited;
+import org.hibernate.audit.AuditLogFactory;
+import org.hibernate.audit.AuditStrategy;
+import org.hibernate.audit.ModificationType;
+import org.hibernate.cfg.StateManagementSettings;
+import org.hibernate.temporal.spi.ChangesetIdentifierSupplier;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.AuditedTest;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that bulk updates and deletes of an audited entity
+ * write the audit rows of the affected rows.
+ */
+@AuditedTest
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = AuditBulkMutationTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = StateManagementSettings.CHANGESET_ID_SUPPLIER,
+		value = "org.hibernate.temporal.audit.AuditBulkMutationTest$TxIdSupplier"))
+class AuditBulkMutationTest {
+	private static int currentTxId;
+
+	public static class TxIdSupplier implements ChangesetIdentifierSupplier<Integer> {
+		@Override
+		public Integer generateIdentifier(SharedSessionContract session) {
+			return ++currentTxId;
+		}
+	}
+
+	@Test
+	void testBulkUpdateAndDelete(SessionFactoryScope scope) {
+		currentTxId = 0;
+		final var sf = scope.getSessionFactory();
+
+		// Revision 1: create three items
+		sf.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final var item = new Item();
+				item.id = id;
+				item.status = "new";
+				item.price = 10 * id;
+				session.persist( item );
+			}
+		} );
+
+		// the audit rows are written by a fixed number of statements, whatever the number of rows
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final int auditStatements = AuditStrategy.VALIDITY.name()
+				.equals( String.valueOf( sf.getProperties().get( StateManagementSettings.AUDIT_STRATEGY ) ) )
+				? 2
+				: 1;
+
+		// Revision 2: the restriction refers to an assigned column
+		inspector.clear();
+		sf.inTransaction( session -> assertEquals( 2,
+				session.createMutationQuery( "update Item set status = 'sold', price = price + 1 "
+								+ "where status = 'new' and id < 3" )
+						.executeUpdate() ) );
+		assertEquals( auditStatements + 1, inspector.getSqlQueries().size() );
+
+		// Revision 3
+		inspector.clear();
+		sf.inTransaction( session -> assertEquals( 1,
+				session.createMutationQuery( "delete from Item where status = :status and price > 20" )
+						.setParameter( "status", "new" )
+						.executeUpdate() ) );
+		assertEquals( auditStatements + 1, inspector.getSqlQueries().size() );
+
+		try (var s = sf.withOptions().atChangeset( 1 ).open()) {
+			assertEquals( "new", s.find( Item.class, 1L ).status );
+			assertEquals( 20L, s.find( Item.class, 2L ).price );
+			assertEquals( "new", s.find( Item.class, 3L ).status );
+		}
+		try (var s = sf.withOptions().atChangeset( 2 ).open()) {
+			assertEquals( "sold", s.find( Item.class, 1L ).status );
+			assertEquals( 11L, s.find( Item.class, 1L ).price );
+			assertEquals( 21L, s.find( Item.class, 2L ).price );
+			assertEquals( "new", s.find( Item.class, 3L ).status );
+		}
+		try (var s = sf.withOptions().atChangeset( 3 ).open()) {
+			assertEquals( "sold", s.find( Item.class, 2L ).status );
+			assertNull( s.find( Item.class, 3L ) );
+		}
+
+		try (var auditLog = AuditLogFactory.create( sf )) {
+			final var history = auditLog.getHistory( Item.class, 2L );
+			assertEquals( 2, history.size() );
+			assertEquals( ModificationType.MOD, history.get( 1 ).modificationType() );
+			assertEquals( "sold", history.get( 1 ).entity().status );
+
+			final var deleted = auditLog.getHistory( Item.class, 3L );
+			assertEquals( 2, deleted.size() );
+			assertEquals( ModificationType.DEL, deleted.get( 1 ).modificationType() );
+		}
+	}
+
+	@Test
+	void testBulkUpdateMergedWithFlushedChange(SessionFactoryScope scope) {
+		currentTxId = 0;
+		final var sf = scope.getSessionFactory();
+
+		// Revision 1
+		sf.inTransaction( session -> {
+			final var item = new Item();
+			item.id = 10L;
+			item.status = "new";
+			item.price = 100;
+			session.persist( item );
+		} );
+
+		// Revision 2: the change is flushed before the bulk update
+		sf.inTransaction( session -> {
+			session.find( Item.class, 10L ).status = "reserved";
+			assertEquals( 1,
+					session.createMutationQuery( "update Item set price = price + 1 where id = 10" )
+							.executeUpdate() );
+		} );
+
+		try (var auditLog = AuditLogFactory.create( sf )) {
+			// a single audit row for the revision, with the state after the update
+			final var history = auditLog.getHistory( Item.class, 10L );
+			assertEquals( 2, history.size() );
+			assertEquals( ModificationType.MOD, history.get( 1 ).modificationType() );
+			assertEquals( "reserved", history.get( 1 ).entity().status );
+			assertEquals( 101L, history.get( 1 ).entity().price );
+		}
+	}
+
+	@Test
+	void testBulkDeleteMergedWithFlushedChanges(SessionFactoryScope scope) {
+		currentTxId = 0;
+		final var sf = scope.getSessionFactory();
+
+		// Revision 1
+		sf.inTransaction( session -> {
+			final var item = new Item();
+			item.id = 20L;
+			item.status = "new";
+			item.price = 200;
+			session.persist( item );
+		} );
+
+		// Revision 2: a modified and an added item are flushed before the bulk delete
+		sf.inTransaction( session -> {
+			session.find( Item.class, 20L ).status = "reserved";
+			final var item = new Item();
+			item.id = 21L;
+			item.status = "new";
+			item.price = 210;
+			session.persist( item );
+			assertEquals( 2,
+					session.createMutationQuery( "delete from Item where id in (20, 21)" )
+							.executeUpdate() );
+		} );
+
+		try (var auditLog = AuditLogFactory.create( sf )) {
+			// a single audit row for the revision
+			final var history = auditLog.getHistory( Item.class, 20L );
+			assertEquals( 2, history.size() );
+			assertEquals( ModificationType.DEL, history.get( 1 ).modificationType() );
+
+			// added and deleted in the same revision
+			assertTrue( auditLog.getHistory( Item.class, 21L ).isEmpty() );
+		}
+	}
+
+	@Audited
+	@Entity(name = "Item")
+	static class Item {
+		@Id
+		long id;
+		String status;
+		long price;
+	}
+}
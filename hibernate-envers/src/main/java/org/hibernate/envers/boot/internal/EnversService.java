@@ -10,6 +10,7 @@
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.MappingCollector;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.reader.HistorySnapshotCache;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
@@ -71,6 +72,16 @@ void initialize(
 
 	ModifiedEntityNamesReader getModifiedEntityNamesReader();
 
+	/**
+	 * The cache of historical entity states shared by all audit readers, or {@code null}
+	 * if the cache is disabled.
+	 *
+	 * @see org.hibernate.envers.configuration.EnversSettings#HISTORY_CACHE_SIZE
+	 *
+	 * @since 8.0
+	 */
+	HistorySnapshotCache getHistorySnapshotCache();
+
 	ClassLoaderService getClassLoaderService();
 
 	ServiceRegistry getServiceRegistry();
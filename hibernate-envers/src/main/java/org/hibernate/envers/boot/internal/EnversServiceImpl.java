@@ -18,6 +18,7 @@
 import org.hibernate.envers.configuration.internal.EntitiesConfigurator;
 import org.hibernate.envers.configuration.internal.MappingCollector;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.reader.HistorySnapshotCache;
 import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
@@ -60,6 +61,7 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 	private Configuration configuration;
 	private AuditProcessManager auditProcessManager;
 	private EntitiesConfigurations entitiesConfigurations;
+	private HistorySnapshotCache historySnapshotCache;
 
 	@Override
 	public void configure(@Nonnull Map<String, Object> configurationValues) {
@@ -132,6 +134,14 @@ public Getter getRevisionInfoTimestampAccessor() {
 		);
 
 		this.entitiesConfigurations = new EntitiesConfigurator().configure( metadataBuildingContext );
+
+		if ( configuration.getHistoryCacheSize() > 0 ) {
+			this.historySnapshotCache = new HistorySnapshotCache(
+					configuration.getHistoryCacheSize(),
+					configuration.getOriginalIdPropertyName(),
+					configuration.getRevisionFieldName()
+			);
+		}
 	}
 
 	@Override
@@ -191,6 +201,14 @@ public ModifiedEntityNamesReader getModifiedEntityNamesReader() {
 		return configuration.getRevisionInfo().getModifiedEntityNamesReader();
 	}
 
+	@Override
+	public HistorySnapshotCache getHistorySnapshotCache() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return historySnapshotCache;
+	}
+
 	@Override
 	public ClassLoaderService getClassLoaderService() {
 		if ( !initialized ) {
@@ -88,6 +88,8 @@ public class Configuration {
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
 	private final boolean revisionSequenceNoCache;
+	private final int relationBatchSize;
+	private final int historyCacheSize;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -176,6 +178,8 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		relationBatchSize = configProps.getInt( EnversSettings.RELATION_BATCH_SIZE, 1 );
+		historyCacheSize = configProps.getInt( EnversSettings.HISTORY_CACHE_SIZE, 0 );
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -247,6 +251,14 @@ public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
 
+	public int getRelationBatchSize() {
+		return relationBatchSize;
+	}
+
+	public int getHistoryCacheSize() {
+		return historyCacheSize;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -430,6 +442,10 @@ boolean getBoolean(String propertyName, boolean defaultValue) {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
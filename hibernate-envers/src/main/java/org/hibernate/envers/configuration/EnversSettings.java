@@ -190,4 +190,32 @@ public interface EnversSettings {
 	 */
 	@Internal
 	String REVISION_SEQUENCE_NOCACHE = "org.hibernate.envers.revision_sequence_nocache";
+
+	/**
+	 * The maximum number of {@code *-to-one} references to the same audited entity which are
+	 * resolved by a single query, when the first of them is accessed. The references may be to
+	 * different revisions of the entity, as in the results of a revisions-of-entity query.
+	 * A value of {@literal 1} resolves each reference by a separate query.
+	 *
+	 * Defaults to {@literal 1}, which disables batching.
+	 *
+	 * @since 8.0
+	 */
+	String RELATION_BATCH_SIZE = "org.hibernate.envers.relation_batch_size";
+
+	/**
+	 * The maximum number of historical entity states which are cached and shared by all audit
+	 * readers, since an audit row is never changed once written. A state is only cached when
+	 * it was read by a batch of {@linkplain #RELATION_BATCH_SIZE to-one references}.
+	 * <p>
+	 * The state of an entity at a revision which is not yet complete, because a transaction with
+	 * a lower revision number has not yet committed, may be cached before that transaction
+	 * commits, and so this cache should only be enabled when history is read for revisions
+	 * which were completed earlier.
+	 *
+	 * Defaults to {@literal 0}, which disables the cache.
+	 *
+	 * @since 8.0
+	 */
+	String HISTORY_CACHE_SIZE = "org.hibernate.envers.history_cache_size";
 }
@@ -35,9 +35,10 @@ public static Object loadImmediate(
 			return versionsReader.getSessionImplementor().immediateLoad( entityName, entityId );
 		}
 		else {
-			// Audited relation, look up entity with Envers.
+			// Audited relation, look up entity with Envers, together with a batch of other pending references.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			versionsReader.getToOneBatchQueue().resolve( entityName, entityId, revision );
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 	}
@@ -58,6 +59,9 @@ public static Object createProxy(
 				.getFactory()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
+		if ( !isTargetNotAudited && enversService.getEntitiesConfigurations().isVersioned( entityName ) ) {
+			versionsReader.getToOneBatchQueue().add( entityName, entityId, revision );
+		}
 		return persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService, isTargetNotAudited )
@@ -46,6 +46,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final ToOneBatchQueue toOneBatchQueue;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -57,6 +58,7 @@ public AuditReaderImpl(
 		this.session = session;
 
 		firstLevelCache = new FirstLevelCache();
+		toOneBatchQueue = new ToOneBatchQueue( enversService, this );
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -81,6 +83,11 @@ public FirstLevelCache getFirstLevelCache() {
 		return firstLevelCache;
 	}
 
+	@Override
+	public ToOneBatchQueue getToOneBatchQueue() {
+		return toOneBatchQueue;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.envers.internal.tools.Triple;
+import org.hibernate.proxy.HibernateProxy;
+
+import static org.hibernate.envers.internal.tools.Triple.make;
+
+/**
+ * A bounded cache of historical entity states, shared by the audit readers of a session factory.
+ * Each state is a copy of the audit row from which an entity was instantiated at some revision,
+ * and is identified by the entity name, the revision, and the entity id. The least recently used
+ * states are evicted first.
+ * <p>
+ * Since the revision entity of an audit row is a proxy bound to the session which read it, it is
+ * omitted from the copy. Rows holding any other proxy are not cached.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#HISTORY_CACHE_SIZE
+ *
+ * @since 8.0
+ */
+public class HistorySnapshotCache {
+	private final Map<Triple<String, Long, Object>, Map<String, Object>> snapshots;
+	private final String originalIdPropertyName;
+	private final String revisionFieldName;
+
+	public HistorySnapshotCache(int maxSize, String originalIdPropertyName, String revisionFieldName) {
+		this.originalIdPropertyName = originalIdPropertyName;
+		this.revisionFieldName = revisionFieldName;
+		snapshots = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Triple<String, Long, Object>, Map<String, Object>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * A copy of the cached state of the given entity at the given revision, or {@code null}
+	 * if the state is not cached.
+	 */
+	public Map<String, Object> get(String entityName, Number revision, Object id) {
+		final Map<String, Object> snapshot;
+		synchronized ( snapshots ) {
+			snapshot = snapshots.get( make( entityName, revision.longValue(), id ) );
+		}
+		return snapshot == null ? null : copy( snapshot );
+	}
+
+	/**
+	 * Cache a copy of the given audit row as the state of the given entity at the given revision.
+	 */
+	public void put(String entityName, Number revision, Object id, Map<String, Object> versionsEntity) {
+		final Map<String, Object> snapshot = copy( versionsEntity );
+		( (Map<?, ?>) snapshot.get( originalIdPropertyName ) ).remove( revisionFieldName );
+		if ( !containsProxy( snapshot ) ) {
+			synchronized ( snapshots ) {
+				snapshots.put( make( entityName, revision.longValue(), id ), snapshot );
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> copy(Map<String, Object> map) {
+		final Map<String, Object> copy = new HashMap<>( map.size() );
+		for ( Map.Entry<String, Object> entry : map.entrySet() ) {
+			final Object value = entry.getValue();
+			if ( value instanceof Map<?, ?> component ) {
+				copy.put( entry.getKey(), copy( (Map<String, Object>) component ) );
+			}
+			else if ( value instanceof Date date ) {
+				copy.put( entry.getKey(), date.clone() );
+			}
+			else if ( value instanceof byte[] bytes ) {
+				copy.put( entry.getKey(), bytes.clone() );
+			}
+			else if ( value instanceof char[] chars ) {
+				copy.put( entry.getKey(), chars.clone() );
+			}
+			else {
+				copy.put( entry.getKey(), value );
+			}
+		}
+		return copy;
+	}
+
+	private static boolean containsProxy(Map<?, ?> map) {
+		for ( Object value : map.values() ) {
+			if ( value instanceof HibernateProxy
+					|| value instanceof Map<?, ?> component && containsProxy( component ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
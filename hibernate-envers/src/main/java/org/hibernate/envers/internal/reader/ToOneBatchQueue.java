@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.proxy.HibernateProxy;
+
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
+
+/**
+ * The {@code *-to-one} references to audited entities which were created as proxies by an audit
+ * reader, and not yet resolved. When one of them is resolved, other references to the same entity
+ * are resolved with it by a single query, even when they refer to different revisions, as in the
+ * results of a revisions-of-entity query. The query reads the audit rows of the referenced ids which
+ * may record their state between the smallest and the greatest of the revisions, and the state of an
+ * entity at a revision is the latest of its rows at or before the revision.
+ * <p>
+ * At most {@value #MAX_PENDING_BATCHES} batches of references to the same entity are kept pending,
+ * and further references are resolved one at a time.
+ * <p>
+ * A reference which is not found in these rows, or whose state at the revision is a deletion, is
+ * left to {@link AuditReaderImplementor#find}.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#RELATION_BATCH_SIZE
+ *
+ * @since 8.0
+ */
+public class ToOneBatchQueue {
+	private record Reference(Object id, Number revision) {
+	}
+
+	private static final int MAX_PENDING_BATCHES = 16;
+
+	private final Map<String, Set<Reference>> pendingReferences = new HashMap<>();
+	private final EnversService enversService;
+	private final AuditReaderImplementor versionsReader;
+
+	public ToOneBatchQueue(EnversService enversService, AuditReaderImplementor versionsReader) {
+		this.enversService = enversService;
+		this.versionsReader = versionsReader;
+	}
+
+	/**
+	 * Register a reference to the given audited entity at the given revision.
+	 */
+	public void add(String entityName, Object id, Number revision) {
+		final int batchSize = enversService.getConfig().getRelationBatchSize();
+		if ( batchSize > 1 ) {
+			final Set<Reference> pending = pendingReferences.computeIfAbsent( entityName, name -> new LinkedHashSet<>() );
+			if ( pending.size() < batchSize * MAX_PENDING_BATCHES ) {
+				pending.add( new Reference( id, revision ) );
+			}
+		}
+	}
+
+	/**
+	 * Resolve the given reference, together with a batch of the pending references to the same
+	 * entity, placing the resolved entities in the {@linkplain FirstLevelCache first level cache}.
+	 */
+	public void resolve(String entityName, Object id, Number revision) {
+		final Reference trigger = new Reference( id, revision );
+		final List<Reference> batch = new ArrayList<>();
+		batch.add( trigger );
+
+		final Set<Reference> pending = pendingReferences.get( entityName );
+		if ( pending != null ) {
+			pending.remove( trigger );
+			final int batchSize = enversService.getConfig().getRelationBatchSize();
+			final FirstLevelCache firstLevelCache = versionsReader.getFirstLevelCache();
+			final Iterator<Reference> iterator = pending.iterator();
+			while ( iterator.hasNext() && batch.size() < batchSize ) {
+				final Reference reference = iterator.next();
+				iterator.remove();
+				if ( !firstLevelCache.contains( entityName, reference.revision(), reference.id() ) ) {
+					batch.add( reference );
+				}
+			}
+			if ( pending.isEmpty() ) {
+				pendingReferences.remove( entityName );
+			}
+		}
+
+		final HistorySnapshotCache historyCache = enversService.getHistorySnapshotCache();
+		if ( historyCache != null ) {
+			batch.removeIf( reference -> instantiateFromCache( historyCache, entityName, reference ) );
+		}
+
+		if ( batch.size() > 1 ) {
+			load( entityName, batch );
+		}
+	}
+
+	private boolean instantiateFromCache(HistorySnapshotCache historyCache, String entityName, Reference reference) {
+		final Map<String, Object> snapshot = historyCache.get( entityName, reference.revision(), reference.id() );
+		if ( snapshot == null ) {
+			return false;
+		}
+		else {
+			instantiate( entityName, reference, snapshot );
+			return true;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void load(String entityName, List<Reference> references) {
+		final Configuration configuration = enversService.getConfig();
+		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+
+		final QueryBuilder qb = new QueryBuilder(
+				configuration.getAuditEntityName( entityName ),
+				REFERENCED_ENTITY_ALIAS,
+				versionsReader.getSessionImplementor().getFactory()
+		);
+		// (e.id = :id1 or e.id = :id2 or ...) and <lower bound> and e.revision <= :maxRevision order by e.revision
+		final Parameters idParameters = qb.getRootParameters().addSubParameters( Parameters.OR );
+		final Set<Object> ids = new LinkedHashSet<>();
+		Number minRevision = references.get( 0 ).revision();
+		Number maxRevision = minRevision;
+		for ( Reference reference : references ) {
+			if ( ids.add( reference.id() ) ) {
+				idMapper.addIdEqualsToQuery(
+						idParameters.addSubParameters( Parameters.AND ),
+						reference.id(),
+						REFERENCED_ENTITY_ALIAS,
+						originalIdPropertyName,
+						true
+				);
+			}
+			if ( reference.revision().longValue() < minRevision.longValue() ) {
+				minRevision = reference.revision();
+			}
+			if ( reference.revision().longValue() > maxRevision.longValue() ) {
+				maxRevision = reference.revision();
+			}
+		}
+		addLowerRevisionBound( qb, entityName, idMapper, minRevision );
+		qb.getRootParameters().addWhereWithParam( configuration.getRevisionNumberPath(), "<=", maxRevision );
+		qb.addOrder( REFERENCED_ENTITY_ALIAS, configuration.getRevisionNumberPath(), true, null );
+
+		final Map<Object, List<Map<String, Object>>> rowsById = new HashMap<>();
+		for ( Object row : qb.toQuery( versionsReader.getSessionImplementor() ).list() ) {
+			final Map<String, Object> versionsEntity = (Map<String, Object>) row;
+			final Object id = idMapper.mapToIdFromMap( (Map<?, ?>) versionsEntity.get( originalIdPropertyName ) );
+			rowsById.computeIfAbsent( id, key -> new ArrayList<>() ).add( versionsEntity );
+		}
+
+		final HistorySnapshotCache historyCache = enversService.getHistorySnapshotCache();
+		for ( Reference reference : references ) {
+			final Map<String, Object> versionsEntity = stateAtRevision( rowsById.get( reference.id() ), reference.revision() );
+			if ( versionsEntity != null ) {
+				if ( historyCache != null ) {
+					historyCache.put( entityName, reference.revision(), reference.id(), versionsEntity );
+				}
+				instantiate( entityName, reference, versionsEntity );
+			}
+		}
+	}
+
+	/**
+	 * Restrict the audit rows to those which may record the state of an entity at or after the
+	 * given revision, so that the older history of the entities is not read.
+	 */
+	private void addLowerRevisionBound(QueryBuilder qb, String entityName, IdMapper idMapper, Number minRevision) {
+		final Configuration configuration = enversService.getConfig();
+		final String revisionNumberPath = configuration.getRevisionNumberPath();
+		final Parameters lowerBound = qb.getRootParameters().addSubParameters( Parameters.OR );
+		if ( enversService.getAuditStrategy() instanceof ValidityAuditStrategy ) {
+			// e.revisionEnd.id > :minRevision or e.revisionEnd is null
+			final String revisionEndFieldName = configuration.getRevisionEndFieldName();
+			lowerBound.addWhereWithParam( revisionEndFieldName + ".id", ">", minRevision );
+			lowerBound.addNullRestriction( revisionEndFieldName, true );
+		}
+		else {
+			// e.revision > :minRevision or e.revision = (select max(e2.revision) from versionsReferencedEntity e2
+			//		where e2.revision <= :minRevision and e2.id = e.id)
+			final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
+			final String alias = qb.generateAlias();
+			final QueryBuilder maxRevisionQb = qb.newSubQueryBuilder( configuration.getAuditEntityName( entityName ), alias );
+			maxRevisionQb.addProjection( "max", alias, revisionNumberPath, false );
+			final Parameters maxRevisionParameters = maxRevisionQb.getRootParameters();
+			maxRevisionParameters.addWhereWithParam( revisionNumberPath, "<=", minRevision );
+			idMapper.addIdsEqualToQuery(
+					maxRevisionParameters,
+					REFERENCED_ENTITY_ALIAS + "." + originalIdPropertyName,
+					alias + "." + originalIdPropertyName
+			);
+			lowerBound.addWhereWithParam( revisionNumberPath, ">", minRevision );
+			lowerBound.addWhere( revisionNumberPath, true, configuration.getCorrelatedSubqueryOperator(), maxRevisionQb );
+		}
+	}
+
+	/**
+	 * The latest of the given rows, ordered by revision, at or before the given revision, or
+	 * exactly at the given revision when {@link Configuration#isFindByRevisionExactMatch()},
+	 * or {@code null} if there is no such row, or if it records a deletion.
+	 */
+	private Map<String, Object> stateAtRevision(List<Map<String, Object>> rows, Number revision) {
+		if ( rows == null ) {
+			return null;
+		}
+		final Configuration configuration = enversService.getConfig();
+		Map<String, Object> state = null;
+		long stateRevision = 0;
+		for ( Map<String, Object> row : rows ) {
+			final long rowRevision = revisionNumber( row ).longValue();
+			if ( rowRevision > revision.longValue() ) {
+				break;
+			}
+			state = row;
+			stateRevision = rowRevision;
+		}
+		if ( state == null
+				|| configuration.isFindByRevisionExactMatch() && stateRevision != revision.longValue()
+				|| RevisionType.DEL.equals( state.get( configuration.getRevisionTypePropertyName() ) ) ) {
+			return null;
+		}
+		return state;
+	}
+
+	private Number revisionNumber(Map<String, Object> versionsEntity) {
+		final Configuration configuration = enversService.getConfig();
+		final Map<?, ?> originalId = (Map<?, ?>) versionsEntity.get( configuration.getOriginalIdPropertyName() );
+		final Object revisionEntity = originalId.get( configuration.getRevisionFieldName() );
+		final var lazyInitializer = HibernateProxy.extractLazyInitializer( revisionEntity );
+		return lazyInitializer == null
+				? enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionEntity )
+				: (Number) lazyInitializer.getInternalIdentifier();
+	}
+
+	private void instantiate(String entityName, Reference reference, Map<String, Object> versionsEntity) {
+		final Object entity = new EntityInstantiator( enversService, versionsReader )
+				.createInstanceFromVersionsEntity( entityName, versionsEntity, reference.revision() );
+		// the instantiator caches the entity under the name of its concrete type,
+		// which may be a subtype of the referenced entity
+		versionsReader.getFirstLevelCache().put( entityName, reference.revision(), reference.id(), entity );
+	}
+}
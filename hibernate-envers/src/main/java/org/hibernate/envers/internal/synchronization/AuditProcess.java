@@ -5,9 +5,12 @@
 package org.hibernate.envers.internal.synchronization;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
@@ -38,6 +41,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final Map<Class<?>, Consumer<SharedSessionContractImplementor>> completionWork;
 
 	private Object revisionData;
 	private boolean revisionDataSaved;
@@ -51,6 +55,23 @@ public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SharedSessionCo
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
+		completionWork = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Get the work of the given kind to be performed once the work units of the
+	 * transaction have been performed and flushed, registering it on the first call,
+	 * so that the work of several work units may be collected and performed together.
+	 */
+	public <T extends Consumer<SharedSessionContractImplementor>> T getCompletionWork(Class<T> kind, Supplier<T> work) {
+		return kind.cast( completionWork.computeIfAbsent( kind, k -> work.get() ) );
+	}
+
+	private void performCompletionWork(SharedSessionContractImplementor session) {
+		for ( Consumer<SharedSessionContractImplementor> work : completionWork.values() ) {
+			work.accept( session );
+		}
+		completionWork.clear();
 	}
 
 	public void cacheEntityState(Object id, String entityName, Object[] snapshot) {
@@ -153,10 +174,12 @@ public void doBeforeTransactionCompletion(SharedSessionContractImplementor sessi
 						.noSessionInterceptorCreation()
 						.open()) {
 					executeInStatelessSession( temporarySession );
+					performCompletionWork( temporarySession );
 				}
 			}
 			else {
 				executeInStatelessSession( statelessSession );
+				performCompletionWork( statelessSession );
 			}
 		}
 		else if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.isClosed() ) {
@@ -170,6 +193,7 @@ else if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.
 					.openSession()) {
 				executeInSession( temporarySession );
 				temporarySession.flush();
+				performCompletionWork( temporarySession );
 			}
 		}
 		else {
@@ -177,6 +201,7 @@ else if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
 			session.flush();
+			performCompletionWork( session );
 		}
 	}
 
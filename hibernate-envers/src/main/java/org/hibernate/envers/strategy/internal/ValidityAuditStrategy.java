@@ -45,12 +45,15 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
@@ -168,48 +171,17 @@ public void perform(
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			session.getTransactionCompletionCallbacks().registerCallback( (s) -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						session,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( session, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			getEndRevisionUpdates( session, configuration ).add( new EndRevisionUpdate(
+					entityName,
+					auditedEntityName,
+					configuration,
+					id,
+					revision,
+					// the previous row does not exist unless the identifier was reused
+					reuseEntityIdentifier && revisionType == RevisionType.ADD
+			) );
 		}
 		if ( session instanceof SessionImplementor statefulSession ) {
 			sessionCacheCleaner.scheduleAuditDataRemoval( statefulSession, data );
@@ -472,6 +444,85 @@ private boolean isMaterializedClob(Type collectionElementType) {
 		return false;
 	}
 
+	/**
+	 * The end revision updates of the audit process of the transaction of the given session,
+	 * executed once its audit rows have been flushed, to guarantee execution of the UPDATE
+	 * statements after the INSERT statements.
+	 */
+	private EndRevisionUpdates getEndRevisionUpdates(
+			SharedSessionContractImplementor session,
+			Configuration configuration) {
+		return configuration.getEnversService().getAuditProcessManager().get( session )
+				.getCompletionWork( EndRevisionUpdates.class, EndRevisionUpdates::new );
+	}
+
+	/**
+	 * Executes the {@link UpdateContext}s sharing the given SQL in JDBC batches,
+	 * if JDBC batching is enabled, and checks the row count of each update.
+	 */
+	private void executeUpdates(
+			SharedSessionContractImplementor session,
+			String sql,
+			List<PendingUpdateContext> pendingContexts) {
+		final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize == null ? 1 : configuredBatchSize;
+		if ( batchSize <= 1 || pendingContexts.size() == 1 ) {
+			for ( PendingUpdateContext pendingContext : pendingContexts ) {
+				pendingContext.checkRowCount( executeUpdate( session, pendingContext.context() ) );
+			}
+		}
+		else {
+			for ( int start = 0; start < pendingContexts.size(); start += batchSize ) {
+				final List<PendingUpdateContext> batch =
+						pendingContexts.subList( start, Math.min( start + batchSize, pendingContexts.size() ) );
+				final int[] rowCounts = executeBatch( session, sql, batch );
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					if ( rowCounts[i] != Statement.SUCCESS_NO_INFO ) {
+						batch.get( i ).checkRowCount( rowCounts[i] );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Executes the {@link UpdateContext}s sharing the given SQL as one JDBC batch.
+	 *
+	 * @return the number of rows affected by each update
+	 */
+	private int[] executeBatch(
+			SharedSessionContractImplementor session,
+			String sql,
+			List<PendingUpdateContext> batch) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final var eventHandler = session.getJdbcSessionContext().getEventHandler();
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			for ( PendingUpdateContext pendingContext : batch ) {
+				int index = 1;
+				for ( QueryParameterBinding binding : pendingContext.context().getBindings() ) {
+					index += binding.bind( index, statement, session );
+				}
+				statement.addBatch();
+			}
+			try {
+				eventHandler.jdbcExecuteBatchStart();
+				return statement.executeBatch();
+			}
+			finally {
+				eventHandler.jdbcExecuteBatchEnd();
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "Could not update previous revisions", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
 	/**
 	 * Executes the {@link UpdateContext} within the scope of the specified session.
 	 *
@@ -668,6 +719,86 @@ private String getUpdateTableName(EntityPersister rootEntity, EntityPersister ro
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * The end revision update of the previous audit row of an entity.
+	 *
+	 * @param allowMissingRow whether the previous audit row might not exist
+	 */
+	private record EndRevisionUpdate(
+			String entityName,
+			String auditedEntityName,
+			Configuration configuration,
+			Object id,
+			Object revision,
+			boolean allowMissingRow) {
+	}
+
+	/**
+	 * An {@link UpdateContext} of an {@link EndRevisionUpdate}.
+	 */
+	private record PendingUpdateContext(EndRevisionUpdate update, UpdateContext context) {
+		void checkRowCount(int rows) {
+			if ( rows != 1 && !update.allowMissingRow() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+								update.auditedEntityName(),
+								update.id(),
+								rows
+						)
+				);
+			}
+		}
+	}
+
+	/**
+	 * The end revision updates of a transaction, executed together at its completion,
+	 * so that the updates of each audit table may be executed as JDBC batches.
+	 */
+	private class EndRevisionUpdates implements Consumer<SharedSessionContractImplementor> {
+		private final List<EndRevisionUpdate> updates = new ArrayList<>();
+
+		void add(EndRevisionUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void accept(SharedSessionContractImplementor session) {
+			// Group the update contexts by SQL, that is, by audit table
+			final Map<String, List<PendingUpdateContext>> contextsBySql = new LinkedHashMap<>();
+			for ( EndRevisionUpdate update : updates ) {
+				// Construct the update contexts
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName(),
+						update.auditedEntityName(),
+						session,
+						update.configuration(),
+						update.id(),
+						update.revision()
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName(),
+									update.id()
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					contextsBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+							.add( new PendingUpdateContext( update, context ) );
+				}
+			}
+
+			contextsBySql.forEach( (sql, pendingContexts) -> executeUpdates( session, sql, pendingContexts ) );
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
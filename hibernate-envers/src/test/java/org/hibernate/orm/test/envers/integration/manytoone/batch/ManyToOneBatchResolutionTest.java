@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.manytoone.batch;
+
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the {@code many-to-one} references of the results of a revisions-of-entity
+ * query are resolved by a single query, and that the resolved states are shared with
+ * later audit readers.
+ */
+@EnversTest
+@Jpa(annotatedClasses = {ManyToOneBatchResolutionTest.Author.class, ManyToOneBatchResolutionTest.Book.class},
+		integrationSettings = {
+				@Setting(name = AvailableSettings.STATEMENT_INSPECTOR, value = "org.hibernate.testing.jdbc.SQLStatementInspector"),
+				@Setting(name = EnversSettings.RELATION_BATCH_SIZE, value = "16"),
+				@Setting(name = EnversSettings.HISTORY_CACHE_SIZE, value = "100")
+		})
+public class ManyToOneBatchResolutionTest {
+
+	@BeforeClassTemplate
+	public void initData(EntityManagerFactoryScope scope) {
+		// Revision 1
+		scope.inTransaction( entityManager -> {
+			final Author gavin = new Author( 1, "Gavin" );
+			final Author steve = new Author( 2, "Steve" );
+			entityManager.persist( gavin );
+			entityManager.persist( steve );
+			entityManager.persist( new Book( 1, "Hibernate in Action", gavin ) );
+			entityManager.persist( new Book( 2, "Envers in Action", steve ) );
+			entityManager.persist( new Book( 3, "Java Persistence with Hibernate", gavin ) );
+		} );
+		// Revision 2
+		scope.inTransaction( entityManager -> {
+			entityManager.find( Author.class, 1 ).name = "Gavin King";
+			entityManager.find( Author.class, 2 ).name = "Steve Ebersole";
+		} );
+		// Revision 3
+		scope.inTransaction( entityManager -> entityManager.find( Book.class, 1 ).title = "Hibernate in Action, 2nd edition" );
+	}
+
+	@Test
+	public void testReferencesResolvedTogether(EntityManagerFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getStatementInspector( SQLStatementInspector.class );
+
+		scope.inEntityManager( entityManager -> {
+			final List<Book> books = revisionsOfBooks( entityManager );
+			inspector.clear();
+			assertAuthors( books );
+			assertEquals( 1, authorQueryCount( inspector ) );
+		} );
+
+		// a new reader finds the states resolved by the first one in the shared cache
+		scope.inEntityManager( entityManager -> {
+			final List<Book> books = revisionsOfBooks( entityManager );
+			inspector.clear();
+			assertAuthors( books );
+			assertEquals( 0, authorQueryCount( inspector ) );
+		} );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Book> revisionsOfBooks(EntityManager entityManager) {
+		return AuditReaderFactory.get( entityManager ).createQuery()
+				.forRevisionsOfEntity( Book.class, true, false )
+				.addOrder( AuditEntity.revisionNumber().asc() )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+	}
+
+	private static void assertAuthors(List<Book> books) {
+		assertEquals( 4, books.size() );
+		assertEquals( "Gavin", books.get( 0 ).author.getName() );
+		assertEquals( "Steve", books.get( 1 ).author.getName() );
+		assertEquals( "Gavin", books.get( 2 ).author.getName() );
+		// the revision of the new title is later than the revision of the new name
+		assertEquals( "Hibernate in Action, 2nd edition", books.get( 3 ).title );
+		assertEquals( "Gavin King", books.get( 3 ).author.getName() );
+	}
+
+	private static long authorQueryCount(SQLStatementInspector inspector) {
+		return inspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).contains( "author_aud" ) )
+				.count();
+	}
+
+	@Entity(name = "Author")
+	@Audited
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Audited
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the end revisions of the previous audit rows are set correctly
+ * when the updates are executed in JDBC batches.
+ */
+@EnversTest
+@Jpa(annotatedClasses = StrTestEntity.class,
+		integrationSettings = {
+				@Setting(name = EnversSettings.AUDIT_STRATEGY, value = "org.hibernate.envers.strategy.ValidityAuditStrategy"),
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "3")
+		})
+public class ValidityAuditStrategyBatchedRevEndTest {
+
+	private static final int COUNT = 7;
+
+	@Test
+	public void testEndRevisionsOfBatchedUpdates(EntityManagerFactoryScope scope) {
+		final Integer[] ids = new Integer[COUNT];
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final StrTestEntity entity = new StrTestEntity( "a" + i );
+				entityManager.persist( entity );
+				ids[i] = entity.getId();
+			}
+		} );
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				entityManager.find( StrTestEntity.class, ids[i] ).setStr( "b" + i );
+			}
+		} );
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				entityManager.remove( entityManager.find( StrTestEntity.class, ids[i] ) );
+			}
+		} );
+
+		scope.inTransaction( entityManager -> {
+			final List<?> open = entityManager.createNativeQuery(
+					"select id from STR_TEST_AUD where REVEND is null" ).getResultList();
+			// one open row per entity: the latest modification or the deletion
+			assertEquals( COUNT, open.size() );
+
+			final var auditReader = AuditReaderFactory.get( entityManager );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( "a" + i, auditReader.find( StrTestEntity.class, ids[i], 1 ).getStr() );
+				assertEquals( "b" + i, auditReader.find( StrTestEntity.class, ids[i], 2 ).getStr() );
+			}
+		} );
+	}
+}
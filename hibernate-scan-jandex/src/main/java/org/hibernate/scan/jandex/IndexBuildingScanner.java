@@ -4,6 +4,7 @@
  */
 package org.hibernate.scan.jandex;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.boot.archive.spi.ArchiveDescriptor;
 import org.hibernate.boot.archive.spi.ArchiveEntry;
@@ -13,31 +14,65 @@
 import org.hibernate.boot.scan.spi.ScanningContext;
 import org.hibernate.boot.scan.spi.ScanningResult;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hibernate.boot.scan.internal.ScannerLogger.SCANNER_LOGGER;
 
 /**
+ * Builds a Jandex index of the scanned archives. When
+ * {@linkplain ScanningProviderImpl#USE_PREBUILT_INDEX enabled}, an archive
+ * containing a {@value #PREBUILT_INDEX} file, typically generated at build
+ * time by the Jandex Maven or Gradle plugin, is not indexed, and the index it
+ * contains is read instead. An index which cannot be read, for example one
+ * written in a version of the format this Jandex does not support, is ignored,
+ * and the archive is indexed.
+ *
  * @author Steve Ebersole
  */
 public class IndexBuildingScanner implements Scanner {
+	/**
+	 * The location, within an archive, of an index of the archive built ahead of time.
+	 *
+	 * @since 8.0
+	 */
+	public static final String PREBUILT_INDEX = "META-INF/jandex.idx";
+
 	private final ScanningContext scanningContext;
+	private final boolean usePrebuiltIndex;
 
 	public IndexBuildingScanner(ScanningContext scanningContext) {
+		this( scanningContext, false );
+	}
+
+	/**
+	 * @param usePrebuiltIndex Whether to read the {@value #PREBUILT_INDEX} file of an archive
+	 *
+	 * @since 8.0
+	 */
+	public IndexBuildingScanner(ScanningContext scanningContext, boolean usePrebuiltIndex) {
 		this.scanningContext = scanningContext;
+		this.usePrebuiltIndex = usePrebuiltIndex;
 	}
 
 	@Override
 	public ScanningResult scan(URL... boundaries) {
 		var resultCollector = new ResultCollector();
 		var indexer = IndexerSupport.buildBaselineIndexer();
+		final List<IndexView> prebuiltIndexes = new ArrayList<>();
 		for ( URL boundary : boundaries ) {
 			var archive = scanningContext.getArchiveDescriptorFactory().buildArchiveDescriptor(boundary);
-			archive.visitClassEntries( (entry) -> indexClassEntry( entry, indexer ) );
+			indexArchive( archive, indexer, prebuiltIndexes );
 		}
-		var indexToUse = indexer.complete();
+		var indexToUse = completeIndex( indexer, prebuiltIndexes );
 		IndexScanner.scanForClasses( indexToUse, resultCollector );
 		return resultCollector.toResult();
 	}
@@ -46,22 +81,59 @@ public ScanningResult scan(URL... boundaries) {
 	public ScanningResult jpaScan(ArchiveDescriptor rootArchive, JaxbPersistenceUnitImpl jaxbUnit) {
 		var resultCollector = new ResultCollector();
 		var indexer = IndexerSupport.buildBaselineIndexer();
+		final List<IndexView> prebuiltIndexes = new ArrayList<>();
 
 		if ( jaxbUnit.isExcludeUnlistedClasses() != Boolean.TRUE ) {
-			rootArchive.visitClassEntries(  (entry) -> indexClassEntry( entry, indexer ) );
+			indexArchive( rootArchive, indexer, prebuiltIndexes );
 		}
 		if ( CollectionHelper.isNotEmpty( jaxbUnit.getJarFiles() ) ) {
 			jaxbUnit.getJarFiles().forEach( jarFileRef -> {
 				final var jarFileArchive = rootArchive.resolveJarFileReference( jarFileRef );
-				jarFileArchive.visitClassEntries(  (entry) -> indexClassEntry( entry, indexer ) );
+				indexArchive( jarFileArchive, indexer, prebuiltIndexes );
 			} );
 		}
-		var indexToUse = indexer.complete();
+		var indexToUse = completeIndex( indexer, prebuiltIndexes );
 
 		IndexScanner.scanForClasses( indexToUse, resultCollector );
 		return resultCollector.toResult();
 	}
 
+	private void indexArchive(ArchiveDescriptor archive, Indexer indexer, List<IndexView> prebuiltIndexes) {
+		final var prebuiltIndex = usePrebuiltIndex ? readPrebuiltIndex( archive ) : null;
+		if ( prebuiltIndex != null ) {
+			prebuiltIndexes.add( prebuiltIndex );
+		}
+		else {
+			archive.visitClassEntries( (entry) -> indexClassEntry( entry, indexer ) );
+		}
+	}
+
+	private static @Nullable IndexView readPrebuiltIndex(ArchiveDescriptor archive) {
+		final var entry = archive.findEntry( PREBUILT_INDEX );
+		if ( entry == null ) {
+			return null;
+		}
+		try (final InputStream stream = entry.getStreamAccess().accessInputStream()) {
+			return new IndexReader( stream ).read();
+		}
+		catch (IOException e) {
+			// including UnsupportedVersion
+			SCANNER_LOGGER.unableToReadPrebuiltIndex( entry.getName(), e.getMessage() );
+			return null;
+		}
+	}
+
+	private static IndexView completeIndex(Indexer indexer, List<IndexView> prebuiltIndexes) {
+		if ( prebuiltIndexes.isEmpty() ) {
+			return indexer.complete();
+		}
+		else {
+			// the baseline indexer holds the Hibernate and Jakarta annotations
+			prebuiltIndexes.add( indexer.complete() );
+			return CompositeIndex.create( prebuiltIndexes );
+		}
+	}
+
 	private void indexClassEntry(ArchiveEntry entry, Indexer indexer) {
 		try (final InputStream stream = entry.getStreamAccess().accessInputStream()) {
 			indexer.index( stream );
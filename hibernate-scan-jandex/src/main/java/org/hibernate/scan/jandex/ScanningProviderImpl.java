@@ -9,17 +9,28 @@
 import org.hibernate.boot.scan.spi.ScanningProvider;
 import org.jboss.jandex.IndexView;
 
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
 /// Jandex-based implementation of ScannerProvider.
 ///
 /// @author Steve Ebersole
 public class ScanningProviderImpl implements ScanningProvider {
 	public static final String JANDEX_INDEX = "hibernate.jandex.index";
 
+	/// When enabled, an archive containing a [IndexBuildingScanner#PREBUILT_INDEX]
+	/// file is not indexed, and the index it contains is read instead. The index
+	/// must then list every class of the archive. Disabled by default.
+	///
+	/// @settingDefault `false`
+	/// @since 8.0
+	public static final String USE_PREBUILT_INDEX = "hibernate.jandex.use_prebuilt_index";
+
 	@Override
 	public Scanner builderScanner(ScanningContext scanningContext) {
 		var providedIndex = (IndexView) scanningContext.getProperties().get( JANDEX_INDEX );
 		if ( providedIndex == null ) {
-			return new IndexBuildingScanner( scanningContext );
+			return new IndexBuildingScanner( scanningContext,
+					getBoolean( USE_PREBUILT_INDEX, scanningContext.getProperties(), false ) );
 		}
 		else {
 			return new ProvidedIndexScanner( scanningContext, providedIndex );
@@ -9,6 +9,7 @@
 import org.hibernate.boot.scan.internal.ScanningContextImpl;
 import org.hibernate.boot.scan.spi.ScanningResult;
 import org.hibernate.cfg.Environment;
+import org.hibernate.scan.jandex.IndexBuildingScanner;
 import org.hibernate.scan.jandex.ScanningProviderImpl;
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.ServiceRegistryScope;
@@ -17,15 +18,19 @@
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +68,51 @@ void testSimpleJarScanning(@TempDir File stagingDir, ServiceRegistryScope regist
 		assertDiscoveredClasses( scanResult );
 	}
 
+	@Test
+	void testPrebuiltIndexRead(@TempDir File stagingDir) throws IOException {
+		// an index of the classes packaged in the jar, as built by the Jandex plugins
+		var indexer = new Indexer();
+		indexer.indexClass( Book.class );
+		indexer.indexClass( FirstClass.class );
+		indexer.indexClass( SecondClass.class );
+		indexer.indexClass( SuperCoolFeature.class );
+		indexer.indexClass( Entity.class );
+		var bytes = new ByteArrayOutputStream();
+		new IndexWriter( bytes ).write( indexer.complete() );
+
+		final ScanningResult scanResult = scanIndexedJar( bytes.toByteArray(), stagingDir );
+		assertThat( scanResult.discoveredClasses() )
+				.contains( Book.class.getName(), FirstClass.class.getName() )
+				.doesNotContain( SecondClass.class.getName() );
+	}
+
+	@Test
+	void testUnreadablePrebuiltIndex(@TempDir File stagingDir) throws IOException {
+		// not an index, the jar is indexed instead
+		final ScanningResult scanResult =
+				scanIndexedJar( "not a Jandex index".getBytes( StandardCharsets.UTF_8 ), stagingDir );
+		assertThat( scanResult.discoveredClasses() )
+				.contains( Book.class.getName(), FirstClass.class.getName() )
+				.doesNotContain( SecondClass.class.getName() );
+	}
+
+	private ScanningResult scanIndexedJar(byte[] index, File stagingDir) throws IOException {
+		var jarArchive = ShrinkWrap.create( JavaArchive.class, "my-indexed-model.jar" );
+		jarArchive.addClasses( Book.class, FirstClass.class, SecondClass.class, SuperCoolFeature.class, Entity.class );
+		jarArchive.add( new ByteArrayAsset( index ), IndexBuildingScanner.PREBUILT_INDEX );
+		var deployment = new File( stagingDir, "my-indexed-model.jar" );
+		jarArchive.as( ZipExporter.class ).exportTo( deployment, true );
+
+		var properties = new HashMap<>( Environment.getProperties() );
+		properties.put( ScanningProviderImpl.USE_PREBUILT_INDEX, true );
+		var scanningContext = new ScanningContextImpl(
+				new StandardArchiveDescriptorFactory(),
+				properties
+		);
+		var scanner = new ScanningProviderImpl().builderScanner( scanningContext );
+		return scanner.scan( deployment.toURI().toURL() );
+	}
+
 	private void assertDiscoveredClasses(ScanningResult scanResult) {
 		assertThat( scanResult.discoveredClasses() )
 				.contains(
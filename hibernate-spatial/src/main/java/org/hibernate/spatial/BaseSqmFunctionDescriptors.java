@@ -9,16 +9,28 @@
 import java.util.Map;
 
 import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.query.sqm.function.FunctionKind;
 import org.hibernate.query.sqm.function.NamedSqmFunctionDescriptor;
+import org.hibernate.query.sqm.function.PatternBasedSqmFunctionDescriptor;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
 import org.hibernate.query.sqm.produce.function.FunctionReturnTypeResolver;
 import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
 import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
 import org.hibernate.type.BasicTypeRegistry;
 
 public class BaseSqmFunctionDescriptors implements KeyedSqmFunctionDescriptors {
 	protected final Map<FunctionKey, SqmFunctionDescriptor> map = new HashMap<>();
 
+	private static final CommonSpatialFunction[] BOUNDING_BOX_FILTERED = {
+			CommonSpatialFunction.ST_INTERSECTS,
+			CommonSpatialFunction.ST_CONTAINS,
+			CommonSpatialFunction.ST_WITHIN,
+			CommonSpatialFunction.ST_OVERLAPS,
+			CommonSpatialFunction.ST_TOUCHES,
+			CommonSpatialFunction.ST_CROSSES
+	};
+
 	//TODO -- refactor so that the function registration is done a separate function so that it can be
 	//overwritten by subclasses
 	public  BaseSqmFunctionDescriptors(FunctionContributions functionContributions) {
@@ -45,6 +57,40 @@ public  BaseSqmFunctionDescriptors(FunctionContributions functionContributions)
 		}
 	}
 
+	/**
+	 * Render the spatial predicates which only hold for geometries with a point in common as the
+	 * conjunction of the given bounding box predicate and the exact predicate, so that databases
+	 * which only use a spatial index for a bounding box predicate use it to restrict the candidates
+	 * of the exact predicate.
+	 *
+	 * @param boundingBoxPattern The predicate that the bounding boxes of the two geometries
+	 * {@code ?1} and {@code ?2} intersect
+	 *
+	 * @since 8.0
+	 */
+	protected void addBoundingBoxFilter(FunctionContributions functionContributions, String boundingBoxPattern) {
+		final BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+		for ( CommonSpatialFunction func : BOUNDING_BOX_FILTERED ) {
+			if ( map.containsKey( func.getKey() ) ) {
+				final String name = func.getKey().getName();
+				map.put(
+						func.getKey(),
+						new PatternBasedSqmFunctionDescriptor(
+								new PatternRenderer( "(" + boundingBoxPattern + " and " + name + "(?1,?2))" ),
+								StandardArgumentsValidators.exactly( 2 ),
+								StandardFunctionReturnTypeResolvers.invariant(
+										basicTypeRegistry.resolve( func.getReturnType() )
+								),
+								null,
+								name,
+								FunctionKind.NORMAL,
+								null
+						)
+				);
+			}
+		}
+	}
+
 	public CommonSpatialFunction[] filter(CommonSpatialFunction[] functions) {
 		return functions;
 	}
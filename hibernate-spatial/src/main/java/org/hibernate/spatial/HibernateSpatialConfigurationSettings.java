@@ -27,6 +27,15 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Whether spatial predicates are preceded by a bounding box predicate which the database
+	 * is able to evaluate using a spatial index, on the databases which do not use the index
+	 * for the exact predicate by themselves. Enabled by default.
+	 *
+	 * @since 8.0
+	 */
+	public static final String BOUNDING_BOX_FILTER = "hibernate.spatial.bounding_box_filter";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.spatial;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+
+/**
+ * Decodes and encodes geometries in the binary WKB representation, as exchanged with the
+ * JDBC driver, without going through a hexadecimal or text representation.
+ *
+ * @since 8.0
+ */
+public final class WkbCodec {
+
+	private WkbCodec() {
+	}
+
+	/**
+	 * Decode a geometry from the given WKB, which is wrapped rather than copied.
+	 */
+	public static Geometry<?> decode(byte[] bytes, Wkb.Dialect dialect) {
+		if ( bytes == null ) {
+			return null;
+		}
+		return Wkb.newDecoder( dialect ).decode( ByteBuffer.from( bytes ) );
+	}
+
+	/**
+	 * Decode a geometry from the WKB held in the given {@link Blob}.
+	 */
+	public static Geometry<?> decode(Blob blob, Wkb.Dialect dialect) throws SQLException {
+		if ( blob == null ) {
+			return null;
+		}
+		final long length = blob.length();
+		if ( length > Integer.MAX_VALUE ) {
+			throw new IllegalArgumentException( "WKB is too large to be decoded: " + length + " bytes" );
+		}
+		return decode( blob.getBytes( 1, (int) length ), dialect );
+	}
+
+	/**
+	 * Encode the given geometry as little-endian WKB.
+	 */
+	public static byte[] encode(Geometry<?> geometry, Wkb.Dialect dialect) {
+		if ( geometry == null ) {
+			return null;
+		}
+		final ByteBuffer buffer = Wkb.newEncoder( dialect ).encode( geometry, ByteOrder.NDR );
+		return buffer == null ? null : buffer.toByteArray();
+	}
+}
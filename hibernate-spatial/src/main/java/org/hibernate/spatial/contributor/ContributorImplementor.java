@@ -6,8 +6,11 @@
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.spatial.GeolatteGeometryJavaType;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.JTSGeometryJavaType;
 
 /**
@@ -42,4 +45,15 @@ default void contributeJavaTypes(TypeContributions typeContributions, ServiceReg
 	void contributeFunctions(FunctionContributions functionContributions);
 
 	ServiceRegistry getServiceRegistry();
+
+	/**
+	 * @see HibernateSpatialConfigurationSettings#BOUNDING_BOX_FILTER
+	 */
+	default boolean isBoundingBoxFilterEnabled() {
+		return getServiceRegistry().requireService( ConfigurationService.class ).getSetting(
+				HibernateSpatialConfigurationSettings.BOUNDING_BOX_FILTER,
+				StandardConverters.BOOLEAN,
+				true
+		);
+	}
 }
@@ -5,20 +5,16 @@
 package org.hibernate.spatial.dialect.h2gis;
 
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.sql.Blob;
 import java.util.Locale;
 
 import org.hibernate.HibernateException;
 import org.hibernate.spatial.HSMessageLogger;
+import org.hibernate.spatial.WkbCodec;
 
 import org.jboss.logging.Logger;
 
-import org.geolatte.geom.ByteBuffer;
-import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.C2D;
 import org.geolatte.geom.Envelope;
 import org.geolatte.geom.Geometry;
@@ -26,8 +22,6 @@
 import org.geolatte.geom.PositionSequence;
 import org.geolatte.geom.PositionSequenceBuilders;
 import org.geolatte.geom.codec.Wkb;
-import org.geolatte.geom.codec.WkbDecoder;
-import org.geolatte.geom.codec.WkbEncoder;
 import org.geolatte.geom.crs.CoordinateReferenceSystems;
 import org.geolatte.geom.jts.JTS;
 
@@ -59,9 +53,7 @@ private H2GISWkb() {
 	 * @return A byte-array representing the geometry in WKB.
 	 */
 	public static byte[] to(Geometry geometry) {
-		final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.POSTGIS_EWKB_1 );
-		final ByteBuffer buffer = encoder.encode( geometry, ByteOrder.NDR );
-		return ( buffer == null ? null : buffer.toByteArray() );
+		return WkbCodec.encode( geometry, Wkb.Dialect.POSTGIS_EWKB_1 );
 	}
 
 	/**
@@ -80,12 +72,11 @@ public static Geometry from(Object object) {
 			if ( object instanceof org.locationtech.jts.geom.Geometry ) {
 				return JTS.from( (org.locationtech.jts.geom.Geometry) object );
 			}
-			final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
 			if ( object instanceof Blob ) {
-				return decoder.decode( toByteBuffer( (Blob) object ) );
+				return WkbCodec.decode( (Blob) object, Wkb.Dialect.POSTGIS_EWKB_1 );
 			}
 			else if ( object instanceof byte[] ) {
-				return decoder.decode( ByteBuffer.from( (byte[]) object ) );
+				return WkbCodec.decode( (byte[]) object, Wkb.Dialect.POSTGIS_EWKB_1 );
 			}
 			else if ( object instanceof org.locationtech.jts.geom.Envelope ) {
 				return toPolygon( JTS.from( (org.locationtech.jts.geom.Envelope) object ) );
@@ -113,33 +104,4 @@ private static Geometry<C2D> toPolygon(Envelope env) {
 				.toPositionSequence();
 		return new Polygon<C2D>( ps, CoordinateReferenceSystems.PROJECTED_2D_METER );
 	}
-
-	//todo This type of function really belongs in a general helper class
-	private static ByteBuffer toByteBuffer(Blob blob) {
-		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		final byte[] buf = new byte[1024];
-
-		InputStream in = null;
-		try {
-			in = blob.getBinaryStream();
-			int n = 0;
-			while ( ( n = in.read( buf ) ) >= 0 ) {
-				baos.write( buf, 0, n );
-			}
-		}
-		catch (Exception e) {
-			LOGGER.warn( "Could not convert database BLOB object to binary stream.", e );
-		}
-		finally {
-			try {
-				if ( in != null ) {
-					in.close();
-				}
-			}
-			catch (IOException e) {
-				LOGGER.warn( "Could not close binary stream." );
-			}
-		}
-		return ByteBuffer.from( baos.toByteArray() );
-	}
 }
@@ -28,7 +28,10 @@ public void contributeJdbcTypes(TypeContributions typeContributions, ServiceRegi
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.SPATIAL_MSG_LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors functions = new H2SqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors functions = new H2SqmFunctionDescriptors(
+				functionContributions,
+				isBoundingBoxFilterEnabled()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		functions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
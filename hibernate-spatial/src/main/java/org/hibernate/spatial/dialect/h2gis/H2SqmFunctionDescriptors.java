@@ -9,6 +9,17 @@
 
 public class H2SqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 	public H2SqmFunctionDescriptors(FunctionContributions contributions) {
+		this( contributions, false );
+	}
+
+	/**
+	 * @param boundingBoxFilter whether the spatial predicates are preceded by the {@code &&}
+	 * operator, which is evaluated using the spatial index
+	 */
+	public H2SqmFunctionDescriptors(FunctionContributions contributions, boolean boundingBoxFilter) {
 		super( contributions );
+		if ( boundingBoxFilter ) {
+			addBoundingBoxFilter( contributions, "?1 && ?2" );
+		}
 	}
 }
@@ -29,7 +29,10 @@ public void contributeJdbcTypes(TypeContributions typeContributions, ServiceRegi
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.SPATIAL_MSG_LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors mariaDbFunctions = new MariaDBSqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors mariaDbFunctions = new MariaDBSqmFunctionDescriptors(
+				functionContributions,
+				isBoundingBoxFilterEnabled()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		mariaDbFunctions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
@@ -12,7 +12,18 @@
 
 public class MariaDBSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 	public MariaDBSqmFunctionDescriptors(FunctionContributions functionContributions) {
+		this( functionContributions, false );
+	}
+
+	/**
+	 * @param boundingBoxFilter whether the spatial predicates are preceded by {@code MBRIntersects()},
+	 * which is evaluated using the spatial index
+	 */
+	public MariaDBSqmFunctionDescriptors(FunctionContributions functionContributions, boolean boundingBoxFilter) {
 		super( functionContributions );
+		if ( boundingBoxFilter ) {
+			addBoundingBoxFilter( functionContributions, "mbrintersects(?1,?2)" );
+		}
 	}
 
 	@Override
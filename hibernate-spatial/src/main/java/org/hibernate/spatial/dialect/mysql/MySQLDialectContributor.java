@@ -29,7 +29,10 @@ public void contributeJdbcTypes(TypeContributions typeContributions, ServiceRegi
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.SPATIAL_MSG_LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors mysqlFunctions = new MySqlSqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors mysqlFunctions = new MySqlSqmFunctionDescriptors(
+				functionContributions,
+				isBoundingBoxFilterEnabled()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		mysqlFunctions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
@@ -11,6 +11,7 @@
 import java.sql.Types;
 
 import org.hibernate.spatial.GeometryLiteralFormatter;
+import org.hibernate.spatial.WkbCodec;
 import org.hibernate.type.SqlTypes;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
@@ -21,12 +22,8 @@
 import org.hibernate.type.descriptor.jdbc.JdbcLiteralFormatter;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 
-import org.geolatte.geom.ByteBuffer;
-import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
 import org.geolatte.geom.codec.Wkb;
-import org.geolatte.geom.codec.WkbDecoder;
-import org.geolatte.geom.codec.WkbEncoder;
 import org.geolatte.geom.codec.Wkt;
 
 /**
@@ -62,21 +59,15 @@ public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 					throws SQLException {
-				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.MYSQL_WKB );
 				final Geometry geometry = getJavaType().unwrap( value, Geometry.class, options );
-				final ByteBuffer buffer = encoder.encode( geometry, ByteOrder.NDR );
-				final byte[] bytes = ( buffer == null ? null : buffer.toByteArray() );
-				st.setBytes( index, bytes );
+				st.setBytes( index, WkbCodec.encode( geometry, Wkb.Dialect.MYSQL_WKB ) );
 			}
 
 			@Override
 			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 					throws SQLException {
-				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.MYSQL_WKB );
 				final Geometry geometry = getJavaType().unwrap( value, Geometry.class, options );
-				final ByteBuffer buffer = encoder.encode( geometry, ByteOrder.NDR );
-				final byte[] bytes = ( buffer == null ? null : buffer.toByteArray() );
-				st.setBytes( name, bytes );
+				st.setBytes( name, WkbCodec.encode( geometry, Wkb.Dialect.MYSQL_WKB ) );
 			}
 		};
 	}
@@ -104,12 +95,7 @@ protected X doExtract(CallableStatement statement, String name, WrapperOptions o
 	}
 
 	public Geometry toGeometry(byte[] bytes) {
-		if ( bytes == null ) {
-			return null;
-		}
-		final ByteBuffer buffer = ByteBuffer.from( bytes );
-		final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.MYSQL_WKB );
-		return decoder.decode( buffer );
+		return WkbCodec.decode( bytes, Wkb.Dialect.MYSQL_WKB );
 	}
 
 }
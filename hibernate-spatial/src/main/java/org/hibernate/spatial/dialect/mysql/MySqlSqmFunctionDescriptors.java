@@ -18,7 +18,18 @@ public class MySqlSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 			CommonSpatialFunction.ST_BOUNDARY, CommonSpatialFunction.ST_RELATE );
 
 	public MySqlSqmFunctionDescriptors(FunctionContributions functionContributions) {
+		this( functionContributions, false );
+	}
+
+	/**
+	 * @param boundingBoxFilter whether the spatial predicates are preceded by {@code MBRIntersects()},
+	 * which is evaluated using the spatial index
+	 */
+	public MySqlSqmFunctionDescriptors(FunctionContributions functionContributions, boolean boundingBoxFilter) {
 		super( functionContributions );
+		if ( boundingBoxFilter ) {
+			addBoundingBoxFilter( functionContributions, "mbrintersects(?1,?2)" );
+		}
 	}
 
 	@Override
@@ -14,7 +14,10 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.spatial.GeometryLiteralFormatter;
+import org.hibernate.spatial.WkbCodec;
 import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.SqlTypes;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -72,6 +75,19 @@ public boolean isWriteExpressionTyped(Dialect dialect) {
 		return true;
 	}
 
+	/**
+	 * Selects the value as EWKB, so that it is transferred as binary,
+	 * and decoded without a hexadecimal representation.
+	 */
+	@Override
+	public Expression wrapTopLevelSelectionExpression(Expression expression) {
+		return AbstractPostGISJdbcType.asEWKB( expression, getDefaultSqlTypeCode() == SqlTypes.GEOGRAPHY );
+	}
+
+	public Geometry<?> toGeometry(byte[] ewkb) {
+		return WkbCodec.decode( ewkb, wkbDialect );
+	}
+
 	public Geometry<?> toGeometry(String wkt) {
 		if ( wkt == null ) {
 			return null;
@@ -129,7 +145,13 @@ public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
 
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return getJavaType().wrap( toGeometry( rs.getString( paramIndex ) ), options );
+				// top level selections are EWKB, other values are text
+				return getJavaType().wrap(
+						rs.getObject( paramIndex ) instanceof byte[] ewkb
+								? toGeometry( ewkb )
+								: toGeometry( rs.getString( paramIndex ) ),
+						options
+				);
 			}
 
 			@Override
@@ -11,8 +11,15 @@
 import java.sql.Types;
 
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.spatial.GeometryLiteralFormatter;
+import org.hibernate.spatial.WkbCodec;
+import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
+import org.hibernate.type.SqlTypes;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -56,10 +63,48 @@ public <T> JdbcLiteralFormatter<T> getJdbcLiteralFormatter(JavaType<T> javaType)
 
 	protected abstract String getPGTypeName();
 
+	/**
+	 * Selects the value as EWKB, so that it is transferred as binary,
+	 * and decoded without a hexadecimal representation.
+	 */
+	@Override
+	public Expression wrapTopLevelSelectionExpression(Expression expression) {
+		return asEWKB( expression, getDefaultSqlTypeCode() == SqlTypes.GEOGRAPHY );
+	}
+
+	static Expression asEWKB(Expression expression, boolean geography) {
+		return new SelfRenderingExpression() {
+			@Override
+			public void renderToSql(
+					SqlAppender sqlAppender,
+					SqlAstTranslator<?> walker,
+					SessionFactoryImplementor sessionFactory) {
+				sqlAppender.append( "st_asewkb(" );
+				if ( geography ) {
+					sqlAppender.append( "cast(" );
+					expression.accept( walker );
+					sqlAppender.append( " as geometry)" );
+				}
+				else {
+					expression.accept( walker );
+				}
+				sqlAppender.append( ')' );
+			}
+
+			@Override
+			public JdbcMappingContainer getExpressionType() {
+				return expression.getExpressionType();
+			}
+		};
+	}
+
 	public Geometry<?> toGeometry(Object object) {
 		if ( object == null ) {
 			return null;
 		}
+		if ( object instanceof byte[] bytes ) {
+			return WkbCodec.decode( bytes, wkbDialect );
+		}
 		ByteBuffer buffer;
 		if ( object instanceof PGobject ) {
 			String pgValue = ( (PGobject) object ).getValue();
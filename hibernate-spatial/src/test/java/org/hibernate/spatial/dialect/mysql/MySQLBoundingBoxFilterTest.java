@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.spatial.dialect.mysql;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.MySQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+import org.geolatte.geom.Polygon;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+
+import static org.geolatte.geom.builder.DSL.c;
+import static org.geolatte.geom.builder.DSL.point;
+import static org.geolatte.geom.builder.DSL.polygon;
+import static org.geolatte.geom.builder.DSL.ring;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that spatial predicates are preceded by an {@code MBRIntersects()} predicate,
+ * and that the results are those of the exact predicate.
+ */
+@RequiresDialect(MySQLDialect.class)
+@DomainModel(annotatedClasses = { MySQLBoundingBoxFilterTest.Place.class })
+@SessionFactory(useCollectingStatementInspector = true)
+public class MySQLBoundingBoxFilterTest {
+	public static CoordinateReferenceSystem<C2D> crs = CoordinateReferenceSystems.PROJECTED_2D_METER;
+
+	// a triangle, whose bounding box also contains the point (9, 9)
+	private final Polygon<C2D> triangle = polygon(
+			crs,
+			ring( c( 0.0, 0.0 ), c( 10.0, 0.0 ), c( 0.0, 10.0 ), c( 0.0, 0.0 ) )
+	);
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( Place.from( 1L, point( crs, c( 1.0, 1.0 ) ) ) );
+					session.persist( Place.from( 2L, point( crs, c( 9.0, 9.0 ) ) ) );
+					session.persist( Place.from( 3L, point( crs, c( 20.0, 20.0 ) ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testWithin(SessionFactoryScope scope) {
+		SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction(
+				session -> {
+					List<Place> results = session.createQuery(
+									"select p from Place p where st_within(p.location, :area) = true", Place.class )
+							.setParameter( "area", triangle )
+							.getResultList();
+					assertEquals( 1, results.size() );
+					assertEquals( 1L, results.get( 0 ).id );
+					String sql = inspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+					assertTrue( sql.contains( "mbrintersects(" ), "bounding box predicate is not rendered" );
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Place" ).executeUpdate()
+		);
+	}
+
+	@Entity(name = "Place")
+	@Table(name = "place")
+	public static class Place {
+
+		static Place from(Long id, Point<C2D> location) {
+			Place res = new Place();
+			res.id = id;
+			res.location = location;
+			return res;
+		}
+
+		@Id
+		private Long id;
+
+		Point<C2D> location;
+	}
+}
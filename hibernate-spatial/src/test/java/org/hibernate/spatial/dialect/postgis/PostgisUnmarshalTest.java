@@ -61,6 +61,21 @@ public void testWkbNDR() throws SQLException {
 		testCase( wkb, geom );
 	}
 
+	@Test
+	public void testBinaryWkbXDR() {
+		testCase( Wkb.toWkb( geom, ByteOrder.XDR ).toByteArray(), geom );
+	}
+
+	@Test
+	public void testBinaryWkbNDR() {
+		testCase( Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray(), geom );
+	}
+
+	public void testCase(byte[] ewkb, Geometry<?> expected) {
+		assertThat( PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( ewkb ) ).isEqualTo( expected );
+		assertThat( PGCastingGeometryJdbcType.INSTANCE_WKB_2.toGeometry( ewkb ) ).isEqualTo( expected );
+	}
+
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
 		pgo.setValue( pgValue );
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector.internal;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmarks for decoding pgvector values.
+ *
+ * Compares parsing the text representation of a {@code vector} with decoding
+ * its binary representation, as produced by {@code vector_send()}.
+ *
+ * Run with:
+ * ./gradlew :hibernate-vector:jmh -Pjmh.include=".*PGVectorDecodingBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+public class PGVectorDecodingBenchmark {
+
+	@Param({"3", "384", "1536"})
+	private int dimensions;
+
+	private String text;
+	private byte[] binary;
+
+	@Setup
+	public void setup() {
+		final Random random = new Random( 42 );
+		final StringBuilder sb = new StringBuilder( "[" );
+		binary = new byte[4 + dimensions * 4];
+		binary[0] = (byte) (dimensions >>> 8);
+		binary[1] = (byte) dimensions;
+		for ( int i = 0; i < dimensions; i++ ) {
+			final float value = random.nextFloat() * 2 - 1;
+			if ( i > 0 ) {
+				sb.append( ',' );
+			}
+			sb.append( value );
+			final int bits = Float.floatToIntBits( value );
+			final int offset = 4 + i * 4;
+			binary[offset] = (byte) (bits >>> 24);
+			binary[offset + 1] = (byte) (bits >>> 16);
+			binary[offset + 2] = (byte) (bits >>> 8);
+			binary[offset + 3] = (byte) bits;
+		}
+		text = sb.append( ']' ).toString();
+	}
+
+	@Benchmark
+	public float[] text() {
+		return VectorHelper.parseFloatVector( text );
+	}
+
+	@Benchmark
+	public float[] binary() {
+		return VectorHelper.parsePGVectorBinary( binary );
+	}
+}
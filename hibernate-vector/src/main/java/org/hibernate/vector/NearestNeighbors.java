@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SpannerPostgreSQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.restriction.Restriction;
+import org.hibernate.query.specification.SelectionSpecification;
+
+/**
+ * A search for the {@code k} entities whose vector attribute is nearest to a given vector.
+ * The query orders the entities by the {@linkplain VectorDistance distance function} and
+ * limits the results to {@code k} rows, which is the form that approximate nearest neighbor
+ * indexes, such as the HNSW and IVFFlat indexes of pgvector, are able to serve. The rendering
+ * of the distance function is the one contributed for the dialect.
+ * <pre>
+ * List&lt;Document&gt; documents =
+ *         NearestNeighbors.create( Document.class, Document_.embedding, queryVector, VectorDistance.COSINE, 10 )
+ *                 .restrict( Restriction.equal( Document_.language, "en" ) )
+ *                 .setCandidates( 100 )
+ *                 .getResultList( session );
+ * </pre>
+ * <p>
+ * The search accuracy of an approximate index may be controlled by {@link #setCandidates(int)}
+ * and {@link #setProbes(int)}. On PostgreSQL, {@link #getResultList} sets the {@code hnsw.ef_search}
+ * and {@code ivfflat.probes} parameters for the current transaction, right before it executes the
+ * query, and so the search must be executed within a transaction. On other databases, they are
+ * ignored.
+ *
+ * @param <T> The entity type
+ *
+ * @since 8.0
+ */
+public class NearestNeighbors<T> {
+	private static final String QUERY_VECTOR_PARAMETER = "queryVector";
+
+	private final Class<T> entityClass;
+	private final SingularAttribute<? super T, ?> vectorAttribute;
+	private final Object queryVector;
+	private final VectorDistance distance;
+	private final int k;
+	private final List<Restriction<? super T>> restrictions = new ArrayList<>();
+	private @Nullable Integer candidates;
+	private @Nullable Integer probes;
+
+	private NearestNeighbors(
+			Class<T> entityClass,
+			SingularAttribute<? super T, ?> vectorAttribute,
+			Object queryVector,
+			VectorDistance distance,
+			int k) {
+		if ( k < 1 ) {
+			throw new IllegalArgumentException( "Number of nearest neighbors must be positive: " + k );
+		}
+		this.entityClass = entityClass;
+		this.vectorAttribute = vectorAttribute;
+		this.queryVector = queryVector;
+		this.distance = distance;
+		this.k = k;
+	}
+
+	/**
+	 * Search for the {@code k} entities of the given type whose vector attribute is nearest
+	 * to the given vector.
+	 *
+	 * @param entityClass The entity type
+	 * @param vectorAttribute The vector attribute of the entity
+	 * @param queryVector The vector, for example a {@code float[]}
+	 * @param distance The distance function
+	 * @param k The maximum number of entities
+	 */
+	public static <T> NearestNeighbors<T> create(
+			Class<T> entityClass,
+			SingularAttribute<? super T, ?> vectorAttribute,
+			Object queryVector,
+			VectorDistance distance,
+			int k) {
+		return new NearestNeighbors<>( entityClass, vectorAttribute, queryVector, distance, k );
+	}
+
+	/**
+	 * Only search among the entities satisfying the given restriction.
+	 */
+	public NearestNeighbors<T> restrict(Restriction<? super T> restriction) {
+		restrictions.add( restriction );
+		return this;
+	}
+
+	/**
+	 * The number of candidates kept by the search of an HNSW index. A greater number
+	 * improves the accuracy of the search, at the cost of its speed, and should be at
+	 * least {@code k}.
+	 */
+	public NearestNeighbors<T> setCandidates(int candidates) {
+		this.candidates = candidates;
+		return this;
+	}
+
+	/**
+	 * The number of lists searched in an IVFFlat index. A greater number improves the
+	 * accuracy of the search, at the cost of its speed.
+	 */
+	public NearestNeighbors<T> setProbes(int probes) {
+		this.probes = probes;
+		return this;
+	}
+
+	/**
+	 * A specification of the search, to which the query vector must be bound as the
+	 * parameter named {@code queryVector}, and the limit applied.
+	 */
+	public SelectionSpecification<T> specification() {
+		SelectionSpecification<T> specification = SelectionSpecification.create( entityClass )
+				.augment( (builder, query, entity) -> query.orderBy( builder.asc( builder.function(
+						distance.getFunctionName(),
+						Double.class,
+						entity.get( vectorAttribute ),
+						builder.parameter( queryVector.getClass(), QUERY_VECTOR_PARAMETER )
+				) ) ) );
+		for ( Restriction<? super T> restriction : restrictions ) {
+			specification = specification.restrict( restriction );
+		}
+		return specification;
+	}
+
+	/**
+	 * Create the query for the search. The search accuracy parameters are not applied
+	 * to a query obtained this way.
+	 */
+	public SelectionQuery<T> createQuery(SharedSessionContract session) {
+		return specification().createQuery( session )
+				.setParameter( QUERY_VECTOR_PARAMETER, queryVector )
+				.setMaxResults( k );
+	}
+
+	/**
+	 * Execute the search, after applying the search accuracy parameters to the current
+	 * transaction of the given session.
+	 *
+	 * @throws IllegalStateException if search accuracy parameters were specified and
+	 *         there is no transaction in progress
+	 */
+	public List<T> getResultList(SharedSessionContract session) {
+		final SelectionQuery<T> query = createQuery( session );
+		applySearchParameters( session );
+		return query.getResultList();
+	}
+
+	private void applySearchParameters(SharedSessionContract session) {
+		if ( candidates != null || probes != null ) {
+			final var sessionImplementor = session.unwrap( SharedSessionContractImplementor.class );
+			final Dialect dialect = sessionImplementor.getDialect();
+			if ( dialect instanceof PostgreSQLDialect && !( dialect instanceof SpannerPostgreSQLDialect ) ) {
+				if ( !sessionImplementor.isTransactionInProgress() ) {
+					// the parameters are local to the transaction
+					throw new IllegalStateException( "Search accuracy parameters require a transaction in progress" );
+				}
+				session.doWork( connection -> {
+					try ( PreparedStatement statement =
+								connection.prepareStatement( "select set_config(?, ?, true)" ) ) {
+						if ( candidates != null ) {
+							statement.setString( 1, "hnsw.ef_search" );
+							statement.setString( 2, candidates.toString() );
+							statement.execute();
+						}
+						if ( probes != null ) {
+							statement.setString( 1, "ivfflat.probes" );
+							statement.setString( 2, probes.toString() );
+							statement.execute();
+						}
+					}
+				} );
+			}
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+/**
+ * The distance functions by which {@linkplain NearestNeighbors nearest neighbors}
+ * may be searched. Each is a function which increases with the distance between the
+ * vectors, as expected by approximate nearest neighbor indexes.
+ *
+ * @since 8.0
+ */
+public enum VectorDistance {
+	COSINE( "cosine_distance" ),
+	EUCLIDEAN( "euclidean_distance" ),
+	L1( "l1_distance" ),
+	/**
+	 * The inner product, negated, so that the greatest inner product is nearest.
+	 */
+	INNER_PRODUCT( "negative_inner_product" ),
+	HAMMING( "hamming_distance" ),
+	JACCARD( "jaccard_distance" );
+
+	private final String functionName;
+
+	VectorDistance(String functionName) {
+		this.functionName = functionName;
+	}
+
+	/**
+	 * The name of the HQL function computing the distance.
+	 */
+	public String getFunctionName() {
+		return functionName;
+	}
+}
@@ -7,8 +7,13 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -23,16 +28,27 @@
 import java.sql.SQLException;
 
 import static org.hibernate.vector.internal.VectorHelper.parseFloatVector;
+import static org.hibernate.vector.internal.VectorHelper.parsePGVectorBinary;
 
 public class PGVectorJdbcType extends ArrayJdbcType {
 
 	private final int sqlType;
 	private final String typeName;
+	private final boolean binaryTransfer;
 
 	public PGVectorJdbcType(JdbcType elementJdbcType, int sqlType, String typeName) {
+		this( elementJdbcType, sqlType, typeName, false );
+	}
+
+	/**
+	 * @param binaryTransfer Whether selected values are read in the binary representation
+	 * of pgvector, produced by {@code vector_send()}, instead of being parsed from text
+	 */
+	public PGVectorJdbcType(JdbcType elementJdbcType, int sqlType, String typeName, boolean binaryTransfer) {
 		super( elementJdbcType );
 		this.sqlType = sqlType;
 		this.typeName = typeName;
+		this.binaryTransfer = binaryTransfer;
 	}
 
 	@Override
@@ -79,11 +95,42 @@ public boolean isWriteExpressionTyped(Dialect dialect) {
 		return sourceMapping.getJdbcType().isStringLike() ? "cast(?1 as " + typeName + ")" : null;
 	}
 
+	@Override
+	public Expression wrapTopLevelSelectionExpression(Expression expression) {
+		if ( !binaryTransfer ) {
+			return expression;
+		}
+		return new SelfRenderingExpression() {
+			@Override
+			public void renderToSql(
+					SqlAppender sqlAppender,
+					SqlAstTranslator<?> walker,
+					SessionFactoryImplementor sessionFactory) {
+				sqlAppender.append( typeName );
+				sqlAppender.append( "_send(" );
+				expression.accept( walker );
+				sqlAppender.append( ')' );
+			}
+
+			@Override
+			public JdbcMappingContainer getExpressionType() {
+				return expression.getExpressionType();
+			}
+		};
+	}
+
 	@Override
 	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaTypeDescriptor) {
 		return new BasicExtractor<>( javaTypeDescriptor, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				if ( binaryTransfer ) {
+					// values not selected at the top level, e.g. by a native query, are still text
+					final Object value = rs.getObject( paramIndex );
+					if ( value instanceof byte[] bytes ) {
+						return javaTypeDescriptor.wrap( parsePGVectorBinary( bytes ), options );
+					}
+				}
 				return javaTypeDescriptor.wrap( parseFloatVector( rs.getString( paramIndex ) ), options );
 			}
 
@@ -103,7 +150,8 @@ protected X doExtract(CallableStatement statement, String name, WrapperOptions o
 	public boolean equals(Object that) {
 		return super.equals( that )
 			&& that instanceof PGVectorJdbcType vectorJdbcType
-			&& sqlType == vectorJdbcType.sqlType;
+			&& sqlType == vectorJdbcType.sqlType
+			&& binaryTransfer == vectorJdbcType.binaryTransfer;
 	}
 
 	@Override
@@ -37,13 +37,15 @@ public void contribute(TypeContributions typeContributions, ServiceRegistry serv
 			final ArrayJdbcType genericVectorJdbcType = new PGVectorJdbcType(
 					jdbcTypeRegistry.getDescriptor( SqlTypes.FLOAT ),
 					SqlTypes.VECTOR,
-					"vector"
+					"vector",
+					true
 			);
 			jdbcTypeRegistry.addDescriptor( SqlTypes.VECTOR, genericVectorJdbcType );
 			final ArrayJdbcType floatVectorJdbcType = new PGVectorJdbcType(
 					jdbcTypeRegistry.getDescriptor( SqlTypes.FLOAT ),
 					SqlTypes.VECTOR_FLOAT32,
-					"vector"
+					"vector",
+					true
 			);
 			jdbcTypeRegistry.addDescriptor( SqlTypes.VECTOR_FLOAT32, floatVectorJdbcType );
 			final ArrayJdbcType float16VectorJdbcType = new PGVectorJdbcType(
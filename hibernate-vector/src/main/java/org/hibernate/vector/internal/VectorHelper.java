@@ -128,6 +128,40 @@ public class VectorHelper {
 		return result;
 	}
 
+	/**
+	 * Decodes the binary representation of a pgvector {@code vector}, as produced by
+	 * {@code vector_send()}: the number of dimensions as a big-endian 16-bit integer,
+	 * 16 unused bits, and the elements as big-endian 32-bit floats.
+	 */
+	public static @Nullable float[] parsePGVectorBinary(@Nullable byte[] bytes) {
+		if ( bytes == null ) {
+			return null;
+		}
+		if ( bytes.length < 4 ) {
+			throw new IllegalArgumentException(
+					"Invalid byte array length. Expected at least 4 but got: " + bytes.length );
+		}
+		final int dimensions = ((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF);
+		if ( bytes.length != 4 + (dimensions << 2) ) {
+			throw new IllegalArgumentException(
+					"Invalid byte array length. Expected " + (4 + (dimensions << 2)) + " for "
+							+ dimensions + " dimensions but got: " + bytes.length );
+		}
+		if ( dimensions == 0 ) {
+			return EMPTY_FLOAT_ARRAY;
+		}
+		final float[] result = new float[dimensions];
+		for ( int i = 0; i < dimensions; i++ ) {
+			final int offset = 4 + (i << 2);
+			final int asInt = ((bytes[offset] & 0xFF) << 24)
+							| ((bytes[offset + 1] & 0xFF) << 16)
+							| ((bytes[offset + 2] & 0xFF) << 8)
+							| (bytes[offset + 3] & 0xFF);
+			result[i] = Float.intBitsToFloat( asInt );
+		}
+		return result;
+	}
+
 	public static byte[] parseBitString(String bitString) {
 		assert new BigInteger( "1" + bitString, 2 ).bitLength() == bitString.length() + 1;
 		final int fullBytesCount = bitString.length() >> 3;
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.Session;
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.range.Range;
+import org.hibernate.query.restriction.Restriction;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.type.SqlTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = NearestNeighborsTest.Document.class)
+@SessionFactory
+@RequiresDialect(value = PostgreSQLDialect.class, matchSubTypes = false)
+public class NearestNeighborsTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			em.persist( new Document( 1L, "en", new float[] {1, 0, 0} ) );
+			em.persist( new Document( 2L, "en", new float[] {0, 1, 0} ) );
+			em.persist( new Document( 3L, "de", new float[] {1, 0.1f, 0} ) );
+			em.persist( new Document( 4L, "en", new float[] {1, 0.5f, 0} ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	public void testNearest(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			final List<Document> documents =
+					NearestNeighbors.create( Document.class, embedding( em ), new float[] {1, 0, 0}, VectorDistance.COSINE, 2 )
+							.setCandidates( 40 )
+							.setProbes( 10 )
+							.getResultList( em );
+			assertThat( documents ).extracting( Document::getId ).containsExactly( 1L, 3L );
+			assertThat( em.createNativeQuery( "select current_setting('hnsw.ef_search')", String.class )
+					.getSingleResult() ).isEqualTo( "40" );
+		} );
+	}
+
+	@Test
+	public void testNearestRestricted(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			final List<Document> documents =
+					NearestNeighbors.create( Document.class, embedding( em ), new float[] {1, 0, 0}, VectorDistance.EUCLIDEAN, 2 )
+							.restrict( Restriction.restrict( Document.class, "language", Range.singleValue( "en" ) ) )
+							.createQuery( em )
+							.getResultList();
+			assertThat( documents ).extracting( Document::getId ).containsExactly( 1L, 4L );
+		} );
+	}
+
+	@Test
+	public void testSearchParametersRequireTransaction(SessionFactoryScope scope) {
+		scope.inSession( em -> assertThatThrownBy(
+				() -> NearestNeighbors.create( Document.class, embedding( em ), new float[] {1, 0, 0}, VectorDistance.COSINE, 2 )
+						.setCandidates( 40 )
+						.getResultList( em )
+		).isInstanceOf( IllegalStateException.class ) );
+	}
+
+	private static SingularAttribute<Document, float[]> embedding(Session session) {
+		return session.getMetamodel().entity( Document.class ).getSingularAttribute( "embedding", float[].class );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+
+		@Id
+		private Long id;
+
+		private String language;
+
+		@Column(name = "embedding")
+		@JdbcTypeCode(SqlTypes.VECTOR)
+		@Array(length = 3)
+		private float[] embedding;
+
+		public Document() {
+		}
+
+		public Document(Long id, String language, float[] embedding) {
+			this.id = id;
+			this.language = language;
+			this.embedding = embedding;
+		}
+
+		public Long getId() {
+			return id;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.vector.internal.VectorHelper.parsePGVectorBinary;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PGVectorBinaryUnitTest {
+
+	@Test
+	public void testNull() {
+		assertNull( parsePGVectorBinary( null ) );
+	}
+
+	@Test
+	public void testEmpty() {
+		assertArrayEquals( new float[0], parsePGVectorBinary( new byte[] {0, 0, 0, 0} ) );
+	}
+
+	@Test
+	public void testDecode() {
+		final byte[] bytes = new byte[] {
+				0, 3, 0, 0,
+				// 1.0f
+				0x3F, (byte) 0x80, 0, 0,
+				// -2.5f
+				(byte) 0xC0, 0x20, 0, 0,
+				// 0.1f
+				0x3D, (byte) 0xCC, (byte) 0xCC, (byte) 0xCD
+		};
+		assertArrayEquals( new float[] {1f, -2.5f, 0.1f}, parsePGVectorBinary( bytes ) );
+	}
+
+	@Test
+	public void testInvalidLength() {
+		assertThrows( IllegalArgumentException.class, () -> parsePGVectorBinary( new byte[] {0, 2, 0, 0, 0x3F, (byte) 0x80, 0, 0} ) );
+		assertThrows( IllegalArgumentException.class, () -> parsePGVectorBinary( new byte[] {0, 0} ) );
+	}
+}